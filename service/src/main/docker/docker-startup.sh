@@ -28,5 +28,5 @@ java \
     --server.undertow.buffer-size=16384 \
     --server.undertow.buffers-per-region=20 \
     --server.undertow.io-threads=64 \
-    --server.undertow.worker-threads=512 \
+    --server.undertow.worker-threads=128 \
     --server.undertow.direct-buffers=true
\ No newline at end of file
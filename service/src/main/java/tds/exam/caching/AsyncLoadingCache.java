@@ -0,0 +1,86 @@
+package tds.exam.caching;
+
+import com.google.common.cache.Cache;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Fills a Guava {@link com.google.common.cache.Cache} from a loader that does not block the calling thread.  A value
+ * that is cached is returned in a completed future.  A value that is not is requested once, however many callers ask
+ * for it while the request is outstanding, and is cached when it arrives.
+ * <p>
+ * Every caller gets a future of its own, so a caller cancelling its future does not cancel the request shared with
+ * the others.
+ * </p>
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public class AsyncLoadingCache<K, V> {
+    private final Cache<K, V> cache;
+    private final ConcurrentMap<K, CompletableFuture<Optional<V>>> loadsInFlight = new ConcurrentHashMap<>();
+
+    public AsyncLoadingCache(final Cache<K, V> cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Find the value in the cache, loading it with the loader when it is not present
+     *
+     * @param key    the key of the value
+     * @param loader requests the value when it is not present
+     * @return future completed with the cached or loaded value
+     */
+    public CompletableFuture<V> get(final K key, final Function<? super K, CompletableFuture<V>> loader) {
+        return getIfFound(key, missingKey -> loader.apply(missingKey).thenApply(Optional::of)).thenApply(Optional::get);
+    }
+
+    /**
+     * Find the value in the cache, loading it with the loader when it is not present.  Only a value that was found is
+     * cached; a load that finds nothing is not, so the next lookup loads again.
+     *
+     * @param key    the key of the value
+     * @param loader requests the value when it is not present, completing empty if there is none
+     * @return future completed with the cached or loaded value, empty if the loader found nothing
+     */
+    public CompletableFuture<Optional<V>> getIfFound(final K key, final Function<? super K, CompletableFuture<Optional<V>>> loader) {
+        final V cachedValue = cache.getIfPresent(key);
+        if (cachedValue != null) {
+            return CompletableFuture.completedFuture(Optional.of(cachedValue));
+        }
+
+        final CompletableFuture<Optional<V>> load = new CompletableFuture<>();
+        final CompletableFuture<Optional<V>> loadInFlight = loadsInFlight.putIfAbsent(key, load);
+        if (loadInFlight != null) {
+            return loadInFlight.thenApply(Function.identity());
+        }
+
+        CompletableFuture<Optional<V>> request;
+        try {
+            request = loader.apply(key);
+        } catch (RuntimeException e) {
+            request = new CompletableFuture<>();
+            request.completeExceptionally(e);
+        }
+
+        request.whenComplete((maybeValue, failure) -> {
+            // Cache the value before forgetting the load so a lookup in between does not request it again
+            if (failure == null) {
+                maybeValue.ifPresent(value -> cache.put(key, value));
+            }
+            loadsInFlight.remove(key, load);
+
+            if (failure == null) {
+                load.complete(maybeValue);
+            } else {
+                load.completeExceptionally(failure);
+            }
+        });
+
+        return load.thenApply(Function.identity());
+    }
+}
@@ -0,0 +1,75 @@
+package tds.exam.caching;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * A point in time snapshot of the usage of an in-memory cache
+ */
+public class CacheStatistics {
+    private final String name;
+    private final long size;
+    private final long hitCount;
+    private final long missCount;
+    private final double hitRate;
+    private final long loadCount;
+    private final long evictionCount;
+
+    public CacheStatistics(String name, long size, CacheStats stats) {
+        this.name = name;
+        this.size = size;
+        this.hitCount = stats.hitCount();
+        this.missCount = stats.missCount();
+        this.hitRate = stats.hitRate();
+        this.loadCount = stats.loadCount();
+        this.evictionCount = stats.evictionCount();
+    }
+
+    /**
+     * @return the name identifying the cache
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the approximate number of entries in the cache
+     */
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of lookups that were not in the cache
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * @return the ratio of hits to lookups, 1.0 if there have been no lookups
+     */
+    public double getHitRate() {
+        return hitRate;
+    }
+
+    /**
+     * @return the number of times a value was loaded from its source
+     */
+    public long getLoadCount() {
+        return loadCount;
+    }
+
+    /**
+     * @return the number of entries removed because of size or expiration
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+}
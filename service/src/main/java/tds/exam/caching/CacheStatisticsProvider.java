@@ -0,0 +1,11 @@
+package tds.exam.caching;
+
+/**
+ * Implemented by components holding an in-memory cache whose usage should be reported
+ */
+public interface CacheStatisticsProvider {
+    /**
+     * @return a snapshot of the cache's current {@link tds.exam.caching.CacheStatistics}
+     */
+    CacheStatistics getCacheStatistics();
+}
@@ -0,0 +1,17 @@
+package tds.exam.caching;
+
+/**
+ * Implemented by components holding an in-memory cache that can be emptied on demand, for example after the data
+ * it holds was changed in the service that owns it
+ */
+public interface EvictableCache {
+    /**
+     * @return the name identifying the cache
+     */
+    String getCacheName();
+
+    /**
+     * Remove every entry from the cache so the following lookups load from the source
+     */
+    void evictAll();
+}
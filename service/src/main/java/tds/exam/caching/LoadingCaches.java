@@ -0,0 +1,94 @@
+package tds.exam.caching;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Helpers for reading from a Guava {@link com.google.common.cache.Cache} or {@link com.google.common.cache.LoadingCache}
+ */
+public final class LoadingCaches {
+    private LoadingCaches() {
+    }
+
+    /**
+     * Find the value in the cache, loading it when it is not present.  Concurrent lookups of a key that is being loaded
+     * wait for that load rather than starting their own.
+     *
+     * @param cache the cache to read
+     * @param key   the key of the value
+     * @param <K>   the type of the key
+     * @param <V>   the type of the value
+     * @return the cached or loaded value
+     * @throws java.lang.RuntimeException the exception thrown by the loader, unwrapped from the cache's wrapper
+     */
+    public static <K, V> V get(LoadingCache<K, V> cache, K key) {
+        try {
+            return cache.getUnchecked(key);
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Find the value in the cache, loading it with the loader when it is not present.  Concurrent lookups of a key that
+     * is being loaded wait for that load rather than starting their own.
+     *
+     * @param cache  the cache to read
+     * @param key    the key of the value
+     * @param loader loads the value when it is not present
+     * @param <K>    the type of the key
+     * @param <V>    the type of the value
+     * @return the cached or loaded value
+     * @throws java.lang.RuntimeException the exception thrown by the loader, unwrapped from the cache's wrapper
+     */
+    public static <K, V> V get(Cache<K, V> cache, K key, Callable<? extends V> loader) {
+        try {
+            return cache.get(key, loader);
+        } catch (ExecutionException | UncheckedExecutionException | ExecutionError e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /**
+     * Find the value in the cache, loading it with the loader when it is not present.  Only a value that was found is
+     * cached; a load that finds nothing is counted as a load exception and the next lookup loads again.  Concurrent
+     * lookups of a key that is being loaded wait for that load rather than starting their own.
+     *
+     * @param cache  the cache to read
+     * @param key    the key of the value
+     * @param loader loads the value when it is not present, empty if there is none
+     * @param <K>    the type of the key
+     * @param <V>    the type of the value
+     * @return the cached or loaded value, empty if the loader found nothing
+     * @throws java.lang.RuntimeException the exception thrown by the loader, unwrapped from the cache's wrapper
+     */
+    public static <K, V> Optional<V> getIfFound(Cache<K, V> cache, K key, Supplier<Optional<V>> loader) {
+        try {
+            return Optional.of(cache.get(key, () -> loader.get().orElseThrow(ValueNotFoundException::new)));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ValueNotFoundException) {
+                return Optional.empty();
+            }
+            throw Throwables.propagate(e.getCause());
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            throw Throwables.propagate(e.getCause());
+        }
+    }
+
+    /*
+     * Thrown by a loader that found nothing so nothing is cached.  It never leaves this class so it has no stack trace.
+     */
+    private static class ValueNotFoundException extends Exception {
+        private ValueNotFoundException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package tds.exam.caching;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Holds the results of the {@link tds.exam.caching.RequestMemoized} lookups made while handling one HTTP request,
+ * along with a count of the lookups that called the other service and the lookups answered from an earlier result.
+ * <p>
+ * Lookups with equal arguments made concurrently from several threads of the same request share one call.  A lookup
+ * that fails is not remembered, so the next one calls the service again.
+ * </p>
+ * <p>
+ * Every caller is handed the same result instance.  A {@link java.util.List} result is remembered as an unmodifiable
+ * view so one caller cannot change what the others see; callers must not mutate the other results either.
+ * </p>
+ */
+public class RequestLookupMemo {
+    public static final String ATTRIBUTE_NAME = RequestLookupMemo.class.getName();
+
+    private static final ThreadLocal<RequestLookupMemo> BOUND_MEMO = new ThreadLocal<>();
+
+    private final ConcurrentMap<Lookup, CompletableFuture<Object>> results = new ConcurrentHashMap<>();
+    private final AtomicInteger callsMade = new AtomicInteger();
+    private final AtomicInteger callsSaved = new AtomicInteger();
+
+    /**
+     * A lookup against another service
+     */
+    @FunctionalInterface
+    public interface Call {
+        Object call() throws Throwable;
+    }
+
+    /**
+     * Find the memo of the request being handled by the current thread
+     *
+     * @return the {@link tds.exam.caching.RequestLookupMemo} of the current request, or empty when the thread is not
+     * handling a request or the request it was handling has completed
+     */
+    public static Optional<RequestLookupMemo> current() {
+        final RequestLookupMemo boundMemo = BOUND_MEMO.get();
+        if (boundMemo != null) {
+            return Optional.of(boundMemo);
+        }
+
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.ofNullable((RequestLookupMemo) requestAttributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST));
+        } catch (IllegalStateException e) {
+            // A lookup still running on an executor after its request completed no longer has a memo to share
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Wrap the task so lookups it makes use this memo.  The memo stays available to the task after the request has been
+     * handed off to complete asynchronously, when the request attributes can no longer be read.
+     *
+     * @param task the task to run
+     * @return the task bound to this memo
+     */
+    public Runnable bind(final Runnable task) {
+        return () -> {
+            final RequestLookupMemo previousMemo = BOUND_MEMO.get();
+            BOUND_MEMO.set(this);
+            try {
+                task.run();
+            } finally {
+                if (previousMemo == null) {
+                    BOUND_MEMO.remove();
+                } else {
+                    BOUND_MEMO.set(previousMemo);
+                }
+            }
+        };
+    }
+
+    /**
+     * Return the result of an earlier lookup of the method with equal arguments, or make the call and remember its result
+     *
+     * @param method    the method being called
+     * @param arguments the arguments of the call
+     * @param call      makes the call against the other service
+     * @return the result of the lookup
+     * @throws Throwable the exception thrown by the call
+     */
+    public Object lookup(final Method method, final Object[] arguments, final Call call) throws Throwable {
+        final Lookup lookup = new Lookup(method, arguments);
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final CompletableFuture<Object> earlierResult = results.putIfAbsent(lookup, result);
+
+        if (earlierResult != null) {
+            callsSaved.incrementAndGet();
+            try {
+                return earlierResult.join();
+            } catch (CompletionException e) {
+                throw e.getCause();
+            }
+        }
+
+        callsMade.incrementAndGet();
+        try {
+            final Object value = readOnly(call.call());
+            result.complete(value);
+            return value;
+        } catch (Throwable t) {
+            results.remove(lookup, result);
+            result.completeExceptionally(t);
+            throw t;
+        }
+    }
+
+    /**
+     * The non-blocking counterpart of {@link #lookup(java.lang.reflect.Method, Object[], tds.exam.caching.RequestLookupMemo.Call)}.
+     * It shares results with the blocking lookup of the same method and arguments, so a value requested without
+     * blocking is not requested again by a blocking lookup later in the request, and the other way round.
+     *
+     * @param method    the {@link tds.exam.caching.RequestMemoized} method whose results are shared
+     * @param arguments the arguments of the call
+     * @param call      requests the value from the other service
+     * @param <T>       the type of the result
+     * @return future completed with the result of the lookup
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> lookupAsync(final Method method, final Object[] arguments, final Supplier<CompletableFuture<T>> call) {
+        final Lookup lookup = new Lookup(method, arguments);
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final CompletableFuture<Object> earlierResult = results.putIfAbsent(lookup, result);
+
+        if (earlierResult != null) {
+            callsSaved.incrementAndGet();
+            return earlierResult.thenApply(value -> (T) value);
+        }
+
+        callsMade.incrementAndGet();
+        CompletableFuture<T> request;
+        try {
+            request = call.get();
+        } catch (RuntimeException e) {
+            request = new CompletableFuture<>();
+            request.completeExceptionally(e);
+        }
+
+        request.whenComplete((value, failure) -> {
+            if (failure == null) {
+                result.complete(readOnly(value));
+            } else {
+                results.remove(lookup, result);
+                result.completeExceptionally(failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure);
+            }
+        });
+
+        return result.thenApply(value -> (T) value);
+    }
+
+    /**
+     * @return the number of lookups that called the other service
+     */
+    public int getCallsMade() {
+        return callsMade.get();
+    }
+
+    /**
+     * @return the number of lookups answered with the result of an earlier lookup
+     */
+    public int getCallsSaved() {
+        return callsSaved.get();
+    }
+
+    private static Object readOnly(final Object value) {
+        return value instanceof List ? Collections.unmodifiableList((List<?>) value) : value;
+    }
+
+    /**
+     * A method and its arguments, compared deeply so varargs arrays with equal elements are the same lookup
+     */
+    private static class Lookup {
+        private final Method method;
+        private final Object[] arguments;
+
+        private Lookup(final Method method, final Object[] arguments) {
+            this.method = method;
+            this.arguments = arguments;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Lookup lookup = (Lookup) o;
+            return method.equals(lookup.method) && Arrays.deepEquals(arguments, lookup.arguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * method.hashCode() + Arrays.deepHashCode(arguments);
+        }
+    }
+}
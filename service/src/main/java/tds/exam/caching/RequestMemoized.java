@@ -0,0 +1,21 @@
+package tds.exam.caching;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a lookup against another service whose result is reused for the rest of the HTTP request that made it.
+ * Repeating the lookup with equal arguments in the same request returns the earlier result instead of calling the
+ * service again.  Only put this on methods that read data.  Every caller in the request gets the same result instance,
+ * so callers must not mutate it; a {@link java.util.List} result is handed out as an unmodifiable view.
+ *
+ * @see tds.exam.caching.RequestLookupMemo
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestMemoized {
+}
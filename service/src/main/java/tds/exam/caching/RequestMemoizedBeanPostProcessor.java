@@ -0,0 +1,30 @@
+package tds.exam.caching;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.AbstractAdvisingBeanPostProcessor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+
+import java.util.Optional;
+
+/**
+ * Proxies beans with {@link tds.exam.caching.RequestMemoized} methods so calls to those methods made while handling an
+ * HTTP request go through the request's {@link tds.exam.caching.RequestLookupMemo}.  Calls made outside a request,
+ * such as background cache refreshes, go straight to the bean.
+ */
+public class RequestMemoizedBeanPostProcessor extends AbstractAdvisingBeanPostProcessor {
+    public RequestMemoizedBeanPostProcessor() {
+        final MethodInterceptor interceptor = invocation -> {
+            final Optional<RequestLookupMemo> maybeMemo = RequestLookupMemo.current();
+            if (!maybeMemo.isPresent()) {
+                return invocation.proceed();
+            }
+
+            return maybeMemo.get().lookup(invocation.getMethod(), invocation.getArguments(), invocation::proceed);
+        };
+
+        this.advisor = new DefaultPointcutAdvisor(AnnotationMatchingPointcut.forMethodAnnotation(RequestMemoized.class), interceptor);
+        // The services are injected by their concrete types into the caching services in front of them
+        setProxyTargetClass(true);
+    }
+}
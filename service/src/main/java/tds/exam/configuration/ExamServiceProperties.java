@@ -10,6 +10,29 @@ public class ExamServiceProperties {
     private String studentUrl = "";
     private String assessmentUrl = "";
     private String configUrl = "";
+    private long examCacheMaxSize = 10000;
+    private long examCacheExpireSeconds = 30;
+    private long assessmentCacheMaxSize = 1000;
+    private long assessmentCacheExpireSeconds = 300;
+    private long externalSessionConfigurationCacheRefreshSeconds = 300;
+    private long externalSessionConfigurationCacheExpireSeconds = 3600;
+    private long clientSystemFlagCacheRefreshSeconds = 300;
+    private long clientSystemFlagCacheExpireSeconds = 3600;
+    private long timeLimitConfigurationCacheMaxSize = 1000;
+    private long timeLimitConfigurationCacheExpireSeconds = 300;
+    private long assessmentAccommodationCacheMaxSize = 1000;
+    private long assessmentAccommodationCacheExpireSeconds = 300;
+    private int upstreamExecutorPoolSize = 64;
+    private int upstreamExecutorQueueCapacity = 1000;
+    private int httpMaxConnections = 200;
+    private int httpMaxConnectionsPerRoute = 50;
+    private int httpConnectTimeoutMillis = 2000;
+    private int httpReadTimeoutMillis = 10000;
+    private int httpConnectionRequestTimeoutMillis = 2000;
+    private long httpKeepAliveMillis = 30000;
+    private long itemPropertyIndexCacheMaxSize = 5000;
+    private long segmentPoolCacheMaxSize = 10000;
+    private int segmentPoolParallelism = 4;
 
     /**
      * Get the URL for the config microservice.
@@ -73,6 +96,307 @@ public class ExamServiceProperties {
         this.assessmentUrl = removeTrailingSlash(assessmentUrl);
     }
 
+    /**
+     * Get the maximum number of exams held in the exam cache.
+     *
+     * @return maximum number of cached exams
+     */
+    public long getExamCacheMaxSize() {
+        return examCacheMaxSize;
+    }
+
+    public void setExamCacheMaxSize(long examCacheMaxSize) {
+        this.examCacheMaxSize = examCacheMaxSize;
+    }
+
+    /**
+     * Get the number of seconds an exam stays in the exam cache after it was last written.
+     *
+     * @return exam cache time to live in seconds
+     */
+    public long getExamCacheExpireSeconds() {
+        return examCacheExpireSeconds;
+    }
+
+    public void setExamCacheExpireSeconds(long examCacheExpireSeconds) {
+        this.examCacheExpireSeconds = examCacheExpireSeconds;
+    }
+
+    /**
+     * Get the maximum number of assessments held in the assessment cache.
+     *
+     * @return maximum number of cached assessments
+     */
+    public long getAssessmentCacheMaxSize() {
+        return assessmentCacheMaxSize;
+    }
+
+    public void setAssessmentCacheMaxSize(long assessmentCacheMaxSize) {
+        this.assessmentCacheMaxSize = assessmentCacheMaxSize;
+    }
+
+    /**
+     * Get the number of seconds an assessment stays in the assessment cache after it was loaded.
+     *
+     * @return assessment cache time to live in seconds
+     */
+    public long getAssessmentCacheExpireSeconds() {
+        return assessmentCacheExpireSeconds;
+    }
+
+    public void setAssessmentCacheExpireSeconds(long assessmentCacheExpireSeconds) {
+        this.assessmentCacheExpireSeconds = assessmentCacheExpireSeconds;
+    }
+
+    /**
+     * Get the number of seconds after which a cached external session configuration is reloaded in the background.
+     *
+     * @return external session configuration refresh interval in seconds
+     */
+    public long getExternalSessionConfigurationCacheRefreshSeconds() {
+        return externalSessionConfigurationCacheRefreshSeconds;
+    }
+
+    public void setExternalSessionConfigurationCacheRefreshSeconds(long externalSessionConfigurationCacheRefreshSeconds) {
+        this.externalSessionConfigurationCacheRefreshSeconds = externalSessionConfigurationCacheRefreshSeconds;
+    }
+
+    /**
+     * Get the number of seconds a cached external session configuration can be used when it could not be refreshed.
+     *
+     * @return external session configuration cache time to live in seconds
+     */
+    public long getExternalSessionConfigurationCacheExpireSeconds() {
+        return externalSessionConfigurationCacheExpireSeconds;
+    }
+
+    public void setExternalSessionConfigurationCacheExpireSeconds(long externalSessionConfigurationCacheExpireSeconds) {
+        this.externalSessionConfigurationCacheExpireSeconds = externalSessionConfigurationCacheExpireSeconds;
+    }
+
+    /**
+     * Get the number of seconds after which a cached client system flag is reloaded in the background.
+     *
+     * @return client system flag refresh interval in seconds
+     */
+    public long getClientSystemFlagCacheRefreshSeconds() {
+        return clientSystemFlagCacheRefreshSeconds;
+    }
+
+    public void setClientSystemFlagCacheRefreshSeconds(long clientSystemFlagCacheRefreshSeconds) {
+        this.clientSystemFlagCacheRefreshSeconds = clientSystemFlagCacheRefreshSeconds;
+    }
+
+    /**
+     * Get the number of seconds the cached client system flags can be used when they could not be refreshed.
+     *
+     * @return client system flag cache time to live in seconds
+     */
+    public long getClientSystemFlagCacheExpireSeconds() {
+        return clientSystemFlagCacheExpireSeconds;
+    }
+
+    public void setClientSystemFlagCacheExpireSeconds(long clientSystemFlagCacheExpireSeconds) {
+        this.clientSystemFlagCacheExpireSeconds = clientSystemFlagCacheExpireSeconds;
+    }
+
+    /**
+     * Get the maximum number of client and assessment time limit configurations held in the cache.
+     *
+     * @return maximum number of cached time limit configurations
+     */
+    public long getTimeLimitConfigurationCacheMaxSize() {
+        return timeLimitConfigurationCacheMaxSize;
+    }
+
+    public void setTimeLimitConfigurationCacheMaxSize(long timeLimitConfigurationCacheMaxSize) {
+        this.timeLimitConfigurationCacheMaxSize = timeLimitConfigurationCacheMaxSize;
+    }
+
+    /**
+     * Get the number of seconds a time limit configuration, or its absence, stays in the cache after it was loaded.
+     *
+     * @return time limit configuration cache time to live in seconds
+     */
+    public long getTimeLimitConfigurationCacheExpireSeconds() {
+        return timeLimitConfigurationCacheExpireSeconds;
+    }
+
+    public void setTimeLimitConfigurationCacheExpireSeconds(long timeLimitConfigurationCacheExpireSeconds) {
+        this.timeLimitConfigurationCacheExpireSeconds = timeLimitConfigurationCacheExpireSeconds;
+    }
+
+    /**
+     * Get the maximum number of assessments whose accommodations are held in the cache.
+     *
+     * @return maximum number of cached assessment accommodation lists
+     */
+    public long getAssessmentAccommodationCacheMaxSize() {
+        return assessmentAccommodationCacheMaxSize;
+    }
+
+    public void setAssessmentAccommodationCacheMaxSize(long assessmentAccommodationCacheMaxSize) {
+        this.assessmentAccommodationCacheMaxSize = assessmentAccommodationCacheMaxSize;
+    }
+
+    /**
+     * Get the number of seconds the accommodations of an assessment stay in the cache after they were loaded.
+     *
+     * @return assessment accommodation cache time to live in seconds
+     */
+    public long getAssessmentAccommodationCacheExpireSeconds() {
+        return assessmentAccommodationCacheExpireSeconds;
+    }
+
+    public void setAssessmentAccommodationCacheExpireSeconds(long assessmentAccommodationCacheExpireSeconds) {
+        this.assessmentAccommodationCacheExpireSeconds = assessmentAccommodationCacheExpireSeconds;
+    }
+
+    /**
+     * Get the number of threads making concurrent calls to other services.
+     *
+     * @return upstream executor pool size
+     */
+    public int getUpstreamExecutorPoolSize() {
+        return upstreamExecutorPoolSize;
+    }
+
+    public void setUpstreamExecutorPoolSize(int upstreamExecutorPoolSize) {
+        this.upstreamExecutorPoolSize = upstreamExecutorPoolSize;
+    }
+
+    /**
+     * Get the number of calls to other services that can wait for a thread before the caller makes them itself.
+     *
+     * @return upstream executor queue capacity
+     */
+    public int getUpstreamExecutorQueueCapacity() {
+        return upstreamExecutorQueueCapacity;
+    }
+
+    public void setUpstreamExecutorQueueCapacity(int upstreamExecutorQueueCapacity) {
+        this.upstreamExecutorQueueCapacity = upstreamExecutorQueueCapacity;
+    }
+
+    /**
+     * Get the maximum number of pooled connections to the other services.
+     *
+     * @return maximum number of pooled connections
+     */
+    public int getHttpMaxConnections() {
+        return httpMaxConnections;
+    }
+
+    public void setHttpMaxConnections(int httpMaxConnections) {
+        this.httpMaxConnections = httpMaxConnections;
+    }
+
+    /**
+     * Get the maximum number of pooled connections to a single service.
+     *
+     * @return maximum number of pooled connections per service
+     */
+    public int getHttpMaxConnectionsPerRoute() {
+        return httpMaxConnectionsPerRoute;
+    }
+
+    public void setHttpMaxConnectionsPerRoute(int httpMaxConnectionsPerRoute) {
+        this.httpMaxConnectionsPerRoute = httpMaxConnectionsPerRoute;
+    }
+
+    /**
+     * Get the number of milliseconds to wait for a connection to another service to be established.
+     *
+     * @return connect timeout in milliseconds
+     */
+    public int getHttpConnectTimeoutMillis() {
+        return httpConnectTimeoutMillis;
+    }
+
+    public void setHttpConnectTimeoutMillis(int httpConnectTimeoutMillis) {
+        this.httpConnectTimeoutMillis = httpConnectTimeoutMillis;
+    }
+
+    /**
+     * Get the number of milliseconds to wait for data from another service.
+     *
+     * @return read timeout in milliseconds
+     */
+    public int getHttpReadTimeoutMillis() {
+        return httpReadTimeoutMillis;
+    }
+
+    public void setHttpReadTimeoutMillis(int httpReadTimeoutMillis) {
+        this.httpReadTimeoutMillis = httpReadTimeoutMillis;
+    }
+
+    /**
+     * Get the number of milliseconds to wait for a connection from the pool.
+     *
+     * @return connection request timeout in milliseconds
+     */
+    public int getHttpConnectionRequestTimeoutMillis() {
+        return httpConnectionRequestTimeoutMillis;
+    }
+
+    public void setHttpConnectionRequestTimeoutMillis(int httpConnectionRequestTimeoutMillis) {
+        this.httpConnectionRequestTimeoutMillis = httpConnectionRequestTimeoutMillis;
+    }
+
+    /**
+     * Get the number of milliseconds an idle connection is kept alive when the service does not say.
+     *
+     * @return keep alive time in milliseconds
+     */
+    public long getHttpKeepAliveMillis() {
+        return httpKeepAliveMillis;
+    }
+
+    public void setHttpKeepAliveMillis(long httpKeepAliveMillis) {
+        this.httpKeepAliveMillis = httpKeepAliveMillis;
+    }
+
+    /**
+     * Get the maximum number of segment and language item property indexes held in the cache.  Entries expire with the
+     * assessments they were built from.
+     *
+     * @return maximum number of cached item property indexes
+     */
+    public long getItemPropertyIndexCacheMaxSize() {
+        return itemPropertyIndexCacheMaxSize;
+    }
+
+    public void setItemPropertyIndexCacheMaxSize(long itemPropertyIndexCacheMaxSize) {
+        this.itemPropertyIndexCacheMaxSize = itemPropertyIndexCacheMaxSize;
+    }
+
+    /**
+     * Get the maximum number of segment pools, one per segment, language and set of accommodations, held in the cache.
+     * Entries expire with the assessments they were computed from.
+     *
+     * @return maximum number of cached segment pools
+     */
+    public long getSegmentPoolCacheMaxSize() {
+        return segmentPoolCacheMaxSize;
+    }
+
+    public void setSegmentPoolCacheMaxSize(long segmentPoolCacheMaxSize) {
+        this.segmentPoolCacheMaxSize = segmentPoolCacheMaxSize;
+    }
+
+    /**
+     * Get the number of threads computing the item pools of adaptive segments concurrently.
+     *
+     * @return segment pool executor parallelism
+     */
+    public int getSegmentPoolParallelism() {
+        return segmentPoolParallelism;
+    }
+
+    public void setSegmentPoolParallelism(int segmentPoolParallelism) {
+        this.segmentPoolParallelism = segmentPoolParallelism;
+    }
+
     private String removeTrailingSlash(String url) {
         if (url.endsWith("/")) {
             return url.substring(0, url.length() - 1);
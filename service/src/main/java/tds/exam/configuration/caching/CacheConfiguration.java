@@ -0,0 +1,35 @@
+package tds.exam.configuration.caching;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import tds.exam.caching.RequestMemoizedBeanPostProcessor;
+
+/**
+ * Configuration for the in-memory caches of data owned by other services
+ */
+@Configuration
+public class CacheConfiguration {
+    /**
+     * Reloads cache entries that are due for a refresh in the background.  Lookups keep being answered with the
+     * current value while the reload is in flight.
+     */
+    @Bean(name = "cacheRefreshExecutor")
+    public ThreadPoolTaskExecutor cacheRefreshExecutor() {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("cache-refresh-");
+        return executor;
+    }
+
+    /**
+     * Reuses the results of lookups against other services for the rest of the request that made them
+     */
+    @Bean
+    public static RequestMemoizedBeanPostProcessor requestMemoizedBeanPostProcessor() {
+        return new RequestMemoizedBeanPostProcessor();
+    }
+}
@@ -0,0 +1,80 @@
+package tds.exam.configuration.concurrent;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import tds.exam.caching.RequestLookupMemo;
+import tds.exam.configuration.ExamServiceProperties;
+
+/**
+ * Configuration for the executors used to make independent calls to other services concurrently
+ */
+@Configuration
+public class ExecutorConfiguration {
+    /**
+     * Runs lookups against other services and the database that a request needs but that do not depend on each
+     * other.  The pool and its queue are bounded; once both are full the requesting thread makes the call itself.
+     * Tasks run with the attributes of the request that submitted them, so lookups they make share the request's
+     * {@link tds.exam.caching.RequestLookupMemo}, even once the request is completing asynchronously.
+     */
+    @Bean(name = "upstreamExecutor")
+    public ThreadPoolTaskExecutor upstreamExecutor(ExamServiceProperties properties) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getUpstreamExecutorPoolSize());
+        executor.setMaxPoolSize(properties.getUpstreamExecutorPoolSize());
+        executor.setQueueCapacity(properties.getUpstreamExecutorQueueCapacity());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("upstream-");
+        executor.setTaskDecorator(task -> inRequest(RequestContextHolder.getRequestAttributes(), RequestLookupMemo.current(), task));
+        return executor;
+    }
+
+    /**
+     * Computes the item pools of an exam's adaptive segments concurrently.  The work is CPU bound so the pool is bounded
+     * to a small number of threads shared by all requests.
+     */
+    @Bean(name = "segmentPoolExecutor")
+    public ForkJoinPool segmentPoolExecutor(ExamServiceProperties properties) {
+        return new ForkJoinPool(properties.getSegmentPoolParallelism());
+    }
+
+    /**
+     * Wrap the executor so every task given to it runs in the request being handled by the calling thread.  The task
+     * decorator of the upstream executor binds a task to the request of the thread that submits it; this also binds the
+     * tasks submitted later from threads outside the request, such as the continuations of non-blocking lookups.
+     *
+     * @param executor the executor to run the tasks on
+     * @return an executor running its tasks with the current request's attributes and lookup memo
+     */
+    public static Executor inCurrentRequest(final Executor executor) {
+        final RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        final Optional<RequestLookupMemo> maybeMemo = RequestLookupMemo.current();
+        return task -> executor.execute(inRequest(requestAttributes, maybeMemo, task));
+    }
+
+    private static Runnable inRequest(final RequestAttributes requestAttributes,
+                                      final Optional<RequestLookupMemo> maybeMemo,
+                                      final Runnable task) {
+        // The request attributes can no longer be read once the request is completing asynchronously, so the memo is
+        // bound to the task directly
+        final Runnable taskWithMemo = maybeMemo.map(memo -> memo.bind(task)).orElse(task);
+        return () -> {
+            // Restore rather than reset since the requesting thread runs the task itself when the pool is saturated
+            final RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                taskWithMemo.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+            }
+        };
+    }
+}
@@ -5,7 +5,6 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 
 import tds.common.configuration.JacksonObjectMapperConfiguration;
-import tds.common.configuration.RestTemplateConfiguration;
 import tds.common.web.advice.ExceptionAdvice;
 
 /**
@@ -14,7 +13,6 @@ import tds.common.web.advice.ExceptionAdvice;
 @Configuration
 @Import({
     ExceptionAdvice.class,
-    RestTemplateConfiguration.class,
     JacksonObjectMapperConfiguration.class
 })
 public class ExamServiceApplicationConfiguration {
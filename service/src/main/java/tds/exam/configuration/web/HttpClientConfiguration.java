@@ -0,0 +1,136 @@
+package tds.exam.configuration.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsAsyncClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.http.AsyncConnectionEvictor;
+
+/**
+ * Configures the {@link org.springframework.web.client.RestTemplate} used to call the other services to reuse pooled,
+ * kept alive connections instead of opening a connection per request.  The
+ * {@link org.springframework.web.client.AsyncRestTemplate} makes the same calls without blocking the calling thread
+ * over a pool of its own that is sized, kept alive and evicted the same way.
+ */
+@Configuration
+public class HttpClientConfiguration {
+    private static final int VALIDATE_AFTER_INACTIVITY_MILLIS = 2000;
+
+    @Bean
+    public PoolingHttpClientConnectionManager httpClientConnectionManager(ExamServiceProperties properties) {
+        final PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(properties.getHttpMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getHttpMaxConnectionsPerRoute());
+        connectionManager.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY_MILLIS);
+        return connectionManager;
+    }
+
+    @Bean
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpClientConnectionManager,
+                                          ExamServiceProperties properties) {
+        return HttpClients.custom()
+            .setConnectionManager(httpClientConnectionManager)
+            .setDefaultRequestConfig(requestConfig(properties))
+            .setKeepAliveStrategy(keepAliveStrategy(properties))
+            .evictExpiredConnections()
+            .evictIdleConnections(properties.getHttpKeepAliveMillis(), TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    @Bean
+    public ClientHttpRequestFactory clientHttpRequestFactory(CloseableHttpClient httpClient) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    /**
+     * Replaces the {@link org.springframework.web.client.RestTemplate} from the common
+     * {@code RestTemplateConfiguration} so the pooled client is part of its construction.  JSON is read with the
+     * shared {@link com.fasterxml.jackson.databind.ObjectMapper} as before.
+     */
+    @Bean
+    public RestTemplate restTemplate(ClientHttpRequestFactory clientHttpRequestFactory, ObjectMapper objectMapper) {
+        final RestTemplate restTemplate = new RestTemplate(clientHttpRequestFactory);
+        restTemplate.getMessageConverters().stream()
+            .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+            .forEach(converter -> ((MappingJackson2HttpMessageConverter) converter).setObjectMapper(objectMapper));
+        return restTemplate;
+    }
+
+    @Bean
+    public PoolingNHttpClientConnectionManager httpAsyncClientConnectionManager(ExamServiceProperties properties)
+        throws IOReactorException {
+        final PoolingNHttpClientConnectionManager connectionManager =
+            new PoolingNHttpClientConnectionManager(new DefaultConnectingIOReactor());
+        connectionManager.setMaxTotal(properties.getHttpMaxConnections());
+        connectionManager.setDefaultMaxPerRoute(properties.getHttpMaxConnectionsPerRoute());
+        return connectionManager;
+    }
+
+    /**
+     * The async client builder has no option to evict connections so it is done on a schedule here
+     */
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    public AsyncConnectionEvictor asyncConnectionEvictor(PoolingNHttpClientConnectionManager httpAsyncClientConnectionManager,
+                                                         ExamServiceProperties properties) {
+        return new AsyncConnectionEvictor(httpAsyncClientConnectionManager, properties.getHttpKeepAliveMillis());
+    }
+
+    @Bean
+    public CloseableHttpAsyncClient httpAsyncClient(PoolingNHttpClientConnectionManager httpAsyncClientConnectionManager,
+                                                    ExamServiceProperties properties) {
+        final CloseableHttpAsyncClient httpAsyncClient = HttpAsyncClients.custom()
+            .setConnectionManager(httpAsyncClientConnectionManager)
+            .setDefaultRequestConfig(requestConfig(properties))
+            .setKeepAliveStrategy(keepAliveStrategy(properties))
+            .build();
+        httpAsyncClient.start();
+        return httpAsyncClient;
+    }
+
+    @Bean
+    public AsyncRestTemplate asyncRestTemplate(CloseableHttpAsyncClient httpAsyncClient, RestTemplate restTemplate) {
+        final AsyncRestTemplate asyncRestTemplate =
+            new AsyncRestTemplate(new HttpComponentsAsyncClientHttpRequestFactory(httpAsyncClient));
+        // Read responses exactly as the blocking calls do
+        asyncRestTemplate.setMessageConverters(restTemplate.getMessageConverters());
+        return asyncRestTemplate;
+    }
+
+    private static RequestConfig requestConfig(ExamServiceProperties properties) {
+        return RequestConfig.custom()
+            .setConnectTimeout(properties.getHttpConnectTimeoutMillis())
+            .setSocketTimeout(properties.getHttpReadTimeoutMillis())
+            .setConnectionRequestTimeout(properties.getHttpConnectionRequestTimeoutMillis())
+            .build();
+    }
+
+    /*
+     * Keep a connection alive for as long as the server allows, or the configured time when it does not say
+     */
+    private static ConnectionKeepAliveStrategy keepAliveStrategy(ExamServiceProperties properties) {
+        return (response, context) -> {
+            long keepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return keepAliveMillis > 0 ? keepAliveMillis : properties.getHttpKeepAliveMillis();
+        };
+    }
+}
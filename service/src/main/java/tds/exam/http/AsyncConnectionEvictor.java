@@ -0,0 +1,46 @@
+package tds.exam.http;
+
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically closes the expired connections and the connections that have been idle for longer than they are kept
+ * alive in the pool of the non-blocking client
+ */
+public class AsyncConnectionEvictor {
+    private final NHttpClientConnectionManager connectionManager;
+    private final long maxIdleMillis;
+    private final ScheduledExecutorService scheduler;
+
+    public AsyncConnectionEvictor(NHttpClientConnectionManager connectionManager, long maxIdleMillis) {
+        this.connectionManager = connectionManager;
+        this.maxIdleMillis = maxIdleMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            final Thread thread = new Thread(task, "async-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start evicting connections every {@code maxIdleMillis}
+     */
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::evict, maxIdleMillis, maxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop evicting connections
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    void evict() {
+        connectionManager.closeExpiredConnections();
+        connectionManager.closeIdleConnections(maxIdleMillis, TimeUnit.MILLISECONDS);
+    }
+}
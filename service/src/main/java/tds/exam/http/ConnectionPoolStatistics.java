@@ -0,0 +1,57 @@
+package tds.exam.http;
+
+import org.apache.http.pool.PoolStats;
+
+/**
+ * A point in time snapshot of the usage of a pool of connections to other services
+ */
+public class ConnectionPoolStatistics {
+    private final String name;
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+
+    public ConnectionPoolStatistics(String name, PoolStats stats) {
+        this.name = name;
+        this.leased = stats.getLeased();
+        this.pending = stats.getPending();
+        this.available = stats.getAvailable();
+        this.max = stats.getMax();
+    }
+
+    /**
+     * @return the name identifying the pool
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of connections in use
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * @return the number of requests waiting for a connection
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * @return the number of idle connections kept alive for reuse
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * @return the maximum number of connections in the pool
+     */
+    public int getMax() {
+        return max;
+    }
+}
@@ -0,0 +1,79 @@
+package tds.exam.models;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import tds.config.Accommodation;
+
+/**
+ * The {@link tds.config.Accommodation}s configured for an assessment, indexed once so that selecting accommodations
+ * for an exam does not scan the whole catalogue.
+ */
+public class AssessmentAccommodations {
+    private final List<Accommodation> accommodations;
+    private final List<Accommodation> defaultAccommodations;
+    private final Map<Integer, ImmutableListMultimap<String, Accommodation>> accommodationsBySegmentPositionAndCode;
+
+    public AssessmentAccommodations(List<Accommodation> accommodations) {
+        this.accommodations = ImmutableList.copyOf(accommodations);
+
+        ImmutableList.Builder<Accommodation> defaultAccommodationsBuilder = ImmutableList.builder();
+        Map<Integer, ImmutableListMultimap.Builder<String, Accommodation>> builders = new HashMap<>();
+        for (Accommodation accommodation : accommodations) {
+            if (accommodation.isDefaultAccommodation() && accommodation.getDependsOnToolType() == null) {
+                defaultAccommodationsBuilder.add(accommodation);
+            }
+
+            // An accommodation without a code can never be selected by code
+            if (accommodation.getCode() != null) {
+                builders.computeIfAbsent(accommodation.getSegmentPosition(), position -> ImmutableListMultimap.builder())
+                    .put(accommodation.getCode(), accommodation);
+            }
+        }
+
+        this.defaultAccommodations = defaultAccommodationsBuilder.build();
+        this.accommodationsBySegmentPositionAndCode = new HashMap<>();
+        builders.forEach((position, builder) -> accommodationsBySegmentPositionAndCode.put(position, builder.build()));
+    }
+
+    /**
+     * @return every accommodation configured for the assessment
+     */
+    public List<Accommodation> getAccommodations() {
+        return accommodations;
+    }
+
+    /**
+     * @return the default accommodations that do not depend on a tool type
+     */
+    public List<Accommodation> getDefaultAccommodations() {
+        return defaultAccommodations;
+    }
+
+    /**
+     * Find the accommodations of a segment that have one of the codes
+     *
+     * @param segmentPosition the position of the segment
+     * @param codes           the accommodation codes
+     * @return the matching accommodations, empty if there are none
+     */
+    public List<Accommodation> findAccommodations(int segmentPosition, Collection<String> codes) {
+        ImmutableListMultimap<String, Accommodation> accommodationsByCode = accommodationsBySegmentPositionAndCode.get(segmentPosition);
+        List<Accommodation> matchingAccommodations = new ArrayList<>();
+        if (accommodationsByCode == null) {
+            return matchingAccommodations;
+        }
+
+        for (String code : codes) {
+            matchingAccommodations.addAll(accommodationsByCode.get(code));
+        }
+
+        return matchingAccommodations;
+    }
+}
@@ -0,0 +1,124 @@
+package tds.exam.models;
+
+import com.google.common.collect.ImmutableList;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import tds.assessment.Item;
+import tds.assessment.ItemProperty;
+
+/**
+ * The {@link tds.assessment.Item}s of a segment in one language along with an inverted index from each
+ * {@link tds.assessment.ItemProperty} name and value to the items having it.
+ * <p>
+ * Each item is numbered by its position in the segment and each property value holds a {@link java.util.BitSet} of
+ * the numbers of the items having it, so selecting an item pool is a handful of word-wise OR and AND NOT operations
+ * rather than a scan over every property of every item.
+ * </p>
+ */
+public class ItemPropertyIndex {
+    private final List<Item> items;
+    private final Map<Pair<String, String>, BitSet> itemsByProperty;
+    private final BitSet fieldTestItems;
+
+    public ItemPropertyIndex(List<Item> items) {
+        this.items = ImmutableList.copyOf(items);
+
+        // An item property names the item it belongs to by id
+        Map<String, List<Integer>> ordinalsByItemId = new HashMap<>();
+        BitSet fieldTestItems = new BitSet(items.size());
+        for (int ordinal = 0; ordinal < items.size(); ordinal++) {
+            Item item = items.get(ordinal);
+            ordinalsByItemId.computeIfAbsent(item.getId(), id -> new ArrayList<>()).add(ordinal);
+            if (item.isFieldTest()) {
+                fieldTestItems.set(ordinal);
+            }
+        }
+
+        Map<Pair<String, String>, BitSet> index = new HashMap<>();
+        for (Item item : items) {
+            for (ItemProperty itemProperty : item.getItemProperties()) {
+                List<Integer> ordinals = ordinalsByItemId.getOrDefault(itemProperty.getItemId(), Collections.emptyList());
+                BitSet itemsWithProperty = index.computeIfAbsent(Pair.of(itemProperty.getName(), itemProperty.getValue()),
+                    property -> new BitSet(items.size()));
+                ordinals.forEach(itemsWithProperty::set);
+            }
+        }
+
+        this.itemsByProperty = index;
+        this.fieldTestItems = fieldTestItems;
+    }
+
+    /**
+     * @return all the {@link tds.assessment.Item}s that were indexed
+     */
+    public List<Item> getItems() {
+        return items;
+    }
+
+    /**
+     * Find the ids of the items having an {@link tds.assessment.ItemProperty} with the name and value
+     *
+     * @param name  the name of the item property, e.g. "Language"
+     * @param value the value of the item property, e.g. "ENU"
+     * @return the ids of the items with the property; empty if there are none
+     */
+    public Set<String> findItemIds(String name, String value) {
+        Set<String> itemIds = new HashSet<>();
+        BitSet itemsWithProperty = itemsByProperty.get(Pair.of(name, value));
+        if (itemsWithProperty != null) {
+            itemsWithProperty.stream().forEach(ordinal -> itemIds.add(items.get(ordinal).getId()));
+        }
+
+        return itemIds;
+    }
+
+    /**
+     * Select the items having any of the included properties and none of the excluded properties
+     *
+     * @param includedProperties the name and value of the properties that include an item
+     * @param excludedProperties the name and value of the properties that exclude an item
+     * @param isFieldTest        select only field test items when {@code true}, only operational items when
+     *                           {@code false} and both when {@code null}
+     * @return the selected {@link tds.assessment.Item}s
+     */
+    public Set<Item> selectItems(Collection<Pair<String, String>> includedProperties,
+                                 Collection<Pair<String, String>> excludedProperties,
+                                 Boolean isFieldTest) {
+        BitSet selectedItems = new BitSet(items.size());
+        for (Pair<String, String> property : includedProperties) {
+            BitSet itemsWithProperty = itemsByProperty.get(property);
+            if (itemsWithProperty != null) {
+                selectedItems.or(itemsWithProperty);
+            }
+        }
+
+        for (Pair<String, String> property : excludedProperties) {
+            BitSet itemsWithProperty = itemsByProperty.get(property);
+            if (itemsWithProperty != null) {
+                selectedItems.andNot(itemsWithProperty);
+            }
+        }
+
+        if (isFieldTest != null) {
+            if (isFieldTest) {
+                selectedItems.and(fieldTestItems);
+            } else {
+                selectedItems.andNot(fieldTestItems);
+            }
+        }
+
+        Set<Item> selected = new HashSet<>();
+        selectedItems.stream().forEach(ordinal -> selected.add(items.get(ordinal)));
+        return selected;
+    }
+}
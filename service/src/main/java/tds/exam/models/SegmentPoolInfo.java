@@ -1,21 +1,23 @@
 package tds.exam.models;
 
+import java.util.Collections;
 import java.util.Set;
 
 import tds.assessment.Item;
 
 /**
- * A class that contains information about a computed segment pool.
+ * A class that contains information about a computed segment pool.  Instances are immutable so a pool can be shared by
+ * the exams selecting the same items.
  */
 public class SegmentPoolInfo {
-    private int length;
-    private int poolCount;
-    private Set<Item> itemPool;
+    private final int length;
+    private final int poolCount;
+    private final Set<Item> itemPool;
 
     public SegmentPoolInfo(int length, int poolCount, Set<Item> itemPool) {
         this.length = length;
         this.poolCount = poolCount;
-        this.itemPool = itemPool;
+        this.itemPool = Collections.unmodifiableSet(itemPool);
     }
 
     /**
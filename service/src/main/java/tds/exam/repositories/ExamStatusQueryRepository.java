@@ -13,4 +13,9 @@ public interface ExamStatusQueryRepository {
      * @throws org.springframework.dao.EmptyResultDataAccessException if the status code cannot be found
      */
     ExamStatusCode findExamStatusCode(String code);
+
+    /**
+     * Reloads the exam status codes from the database, replacing the ones held in memory
+     */
+    void reloadExamStatusCodes();
 }
@@ -0,0 +1,175 @@
+package tds.exam.repositories.impl;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import tds.exam.Exam;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.repositories.ExamStatusQueryRepository;
+
+/**
+ * Node local cache of the current state of exams keyed by exam id.  Reads fill the cache and the exam command
+ * repository writes through it so the cached copy tracks the changes made on this node.
+ * <p>
+ * Every write bumps a generation counter for the exam's stripe both when it is made and after it commits.  A load that
+ * overlaps a write may have read the row before the commit, so it is only kept when the generation it started with is
+ * still current once it is in the cache.
+ */
+@Component
+class ExamCache implements CacheStatisticsProvider {
+    private static final int GENERATION_STRIPES = 1024;
+    private static final long NOT_LOADED = -1;
+
+    private final Cache<UUID, Exam> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final ExamStatusQueryRepository examStatusQueryRepository;
+
+    @Autowired
+    ExamCache(ExamServiceProperties properties, ExamStatusQueryRepository examStatusQueryRepository) {
+        this.examStatusQueryRepository = examStatusQueryRepository;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(properties.getExamCacheMaxSize())
+            .expireAfterWrite(properties.getExamCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Find the exam in the cache, loading it with the loader when it is not present.  Concurrent lookups of an exam
+     * that is being loaded wait for that load rather than starting their own.  A load that finds no exam is counted
+     * as a load exception in the statistics and nothing is cached.
+     *
+     * @param id     the id of the exam
+     * @param loader reads the exam from the database
+     * @return the cached or loaded {@link tds.exam.Exam}, empty if the loader could not find it
+     */
+    Optional<Exam> get(UUID id, Supplier<Optional<Exam>> loader) {
+        AtomicLong loadedAtGeneration = new AtomicLong(NOT_LOADED);
+        Exam exam;
+        try {
+            exam = cache.get(id, () -> {
+                loadedAtGeneration.set(generations.get(stripe(id)));
+                return loader.get().orElseThrow(ExamNotFoundException::new);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof ExamNotFoundException) {
+                return Optional.empty();
+            }
+            throw Throwables.propagate(e.getCause());
+        } catch (UncheckedExecutionException | ExecutionError e) {
+            throw Throwables.propagate(e.getCause());
+        }
+
+        // A write that happened while loading takes precedence over what was read
+        long generation = loadedAtGeneration.get();
+        if (generation != NOT_LOADED && generations.get(stripe(id)) != generation) {
+            cache.asMap().remove(id, exam);
+        }
+        return Optional.of(exam);
+    }
+
+    /**
+     * Replace the cached copies of the exams once the surrounding transaction commits.  The stale copies are removed
+     * immediately so reads inside the transaction go to the database.
+     *
+     * @param exams the exams that were written
+     */
+    void put(Exam... exams) {
+        for (Exam exam : exams) {
+            bumpGeneration(exam.getId());
+            cache.invalidate(exam.getId());
+        }
+
+        afterCommit(() -> {
+            for (Exam exam : exams) {
+                bumpGeneration(exam.getId());
+                // created_at is assigned by the database so an exam that has never been read cannot be cached as is
+                if (exam.getCreatedAt() == null) {
+                    cache.invalidate(exam.getId());
+                } else {
+                    cache.put(exam.getId(), normalize(exam));
+                }
+            }
+        });
+    }
+
+    /**
+     * Remove the exam from the cache
+     *
+     * @param id the id of the exam
+     */
+    void invalidate(UUID id) {
+        bumpGeneration(id);
+        cache.invalidate(id);
+        afterCommit(() -> {
+            bumpGeneration(id);
+            cache.invalidate(id);
+        });
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics("exams", cache.size(), cache.stats());
+    }
+
+    /*
+     * Only hold what a read from the database would have returned
+     */
+    private Exam normalize(Exam exam) {
+        return new Exam.Builder()
+            .fromExam(exam)
+            .withStatus(examStatusQueryRepository.findExamStatusCode(exam.getStatus().getCode()), exam.getStatusChangeDate())
+            .withResumptions(0)
+            .withRestartsAndResumptions(0)
+            .build();
+    }
+
+    private void bumpGeneration(UUID id) {
+        generations.incrementAndGet(stripe(id));
+    }
+
+    private static int stripe(UUID id) {
+        return (id.hashCode() & Integer.MAX_VALUE) % GENERATION_STRIPES;
+    }
+
+    /*
+     * Thrown by the cache loader when the exam does not exist so nothing is cached for it.  It is only ever seen by
+     * get so it does not fill in a stack trace.
+     */
+    private static class ExamNotFoundException extends Exception {
+        private ExamNotFoundException() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
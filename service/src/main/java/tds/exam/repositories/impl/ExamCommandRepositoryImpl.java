@@ -6,11 +6,13 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Stream;
 
 import tds.common.data.CreateRecordException;
 import tds.exam.Exam;
+import tds.exam.ExamStatusCode;
 import tds.exam.repositories.ExamCommandRepository;
 
 import static tds.common.data.mapping.ResultSetMapperUtility.mapJodaInstantToTimestamp;
@@ -19,13 +21,17 @@ import static tds.common.data.mysql.UuidAdapter.getBytesFromUUID;
 @Repository
 class ExamCommandRepositoryImpl implements ExamCommandRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ExamCache examCache;
 
     @Autowired
-    ExamCommandRepositoryImpl(@Qualifier("commandJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate) {
+    ExamCommandRepositoryImpl(@Qualifier("commandJdbcTemplate") NamedParameterJdbcTemplate jdbcTemplate,
+                              ExamCache examCache) {
         this.jdbcTemplate = jdbcTemplate;
+        this.examCache = examCache;
     }
 
     @Override
+    @Transactional
     public void insert(Exam exam) {
         SqlParameterSource examParameters = new MapSqlParameterSource("id", getBytesFromUUID(exam.getId()))
             .addValue("clientName", exam.getClientName())
@@ -87,6 +93,7 @@ class ExamCommandRepositoryImpl implements ExamCommandRepository {
     }
 
     @Override
+    @Transactional
     public void update(Exam... exams) {
         SqlParameterSource[] batchParameters = Stream.of(exams)
             .map(exam -> new MapSqlParameterSource("examId", getBytesFromUUID(exam.getId()))
@@ -106,7 +113,10 @@ class ExamCommandRepositoryImpl implements ExamCommandRepository {
                 .addValue("waitingForSegmentApproval", exam.isWaitingForSegmentApproval())
                 .addValue("currentSegmentPosition", exam.getCurrentSegmentPosition())
                 .addValue("customAccommodations", exam.isCustomAccommodations())
-                .addValue("dateStarted", mapJodaInstantToTimestamp(exam.getDateStarted())))
+                .addValue("dateStarted", mapJodaInstantToTimestamp(exam.getDateStarted()))
+                .addValue("pausedAt", ExamStatusCode.STATUS_PAUSED.equals(exam.getStatus().getCode())
+                    ? mapJodaInstantToTimestamp(exam.getDateChanged())
+                    : null))
             .toArray(MapSqlParameterSource[]::new);
 
         final String SQL =
@@ -153,5 +163,134 @@ class ExamCommandRepositoryImpl implements ExamCommandRepository {
                 ")";
 
         jdbcTemplate.batchUpdate(SQL, batchParameters);
+
+        // exam_current mirrors the latest exam_event so reads do not have to find the MAX(id) per exam
+        final String examCurrentSQL =
+            "INSERT INTO exam_current (\n" +
+                "exam_id, \n" +
+                "attempts, \n" +
+                "max_items, \n" +
+                "language_code, \n" +
+                "expire_from, \n" +
+                "browser_id, \n" +
+                "status, \n" +
+                "status_change_date, \n" +
+                "status_change_reason, \n" +
+                "date_changed, \n" +
+                "date_deleted, \n" +
+                "date_completed, \n" +
+                "date_scored, \n" +
+                "date_started, \n" +
+                "waiting_for_segment_approval, \n" +
+                "current_segment_position, \n" +
+                "custom_accommodations, \n" +
+                "abnormal_starts, \n" +
+                "last_activity_at \n" +
+                ") \n" +
+                "VALUES \n" +
+                "( \n" +
+                ":examId, \n" +
+                ":attempts, \n" +
+                ":maxItems, \n" +
+                ":languageCode, \n" +
+                ":expireFrom, \n" +
+                ":browserId, \n" +
+                ":status, \n" +
+                ":statusChangeDate, \n" +
+                ":statusChangeReason, \n" +
+                ":dateChanged, \n" +
+                ":dateDeleted, \n" +
+                ":dateCompleted, \n" +
+                ":dateScored, \n" +
+                ":dateStarted, \n" +
+                ":waitingForSegmentApproval,\n" +
+                ":currentSegmentPosition, \n" +
+                ":customAccommodations, \n" +
+                ":abnormalStarts, \n" +
+                ":pausedAt \n" +
+                ") \n" +
+                "ON DUPLICATE KEY UPDATE \n" +
+                "attempts = VALUES(attempts), \n" +
+                "max_items = VALUES(max_items), \n" +
+                "language_code = VALUES(language_code), \n" +
+                "expire_from = VALUES(expire_from), \n" +
+                "browser_id = VALUES(browser_id), \n" +
+                "status = VALUES(status), \n" +
+                "status_change_date = VALUES(status_change_date), \n" +
+                "status_change_reason = VALUES(status_change_reason), \n" +
+                "date_changed = VALUES(date_changed), \n" +
+                "date_deleted = VALUES(date_deleted), \n" +
+                "date_completed = VALUES(date_completed), \n" +
+                "date_scored = VALUES(date_scored), \n" +
+                "date_started = VALUES(date_started), \n" +
+                "waiting_for_segment_approval = VALUES(waiting_for_segment_approval), \n" +
+                "current_segment_position = VALUES(current_segment_position), \n" +
+                "custom_accommodations = VALUES(custom_accommodations), \n" +
+                "abnormal_starts = VALUES(abnormal_starts), \n" +
+                "last_activity_at = GREATEST(COALESCE(last_activity_at, VALUES(last_activity_at)), COALESCE(VALUES(last_activity_at), last_activity_at))";
+
+        jdbcTemplate.batchUpdate(examCurrentSQL, batchParameters);
+
+        refreshAbilities(exams);
+
+        examCache.put(exams);
+    }
+
+    /*
+     * exam_ability holds the ability scores of the scored exams that have not been deleted.  Scoring or deleting an exam
+     * changes which of its scores belong there; the triggers on exam_scores only cover the scores themselves.
+     */
+    private void refreshAbilities(Exam... exams) {
+        SqlParameterSource[] abilityParameters = Stream.of(exams)
+            .filter(exam -> exam.getDateScored() != null || exam.getDateDeleted() != null)
+            .map(exam -> new MapSqlParameterSource("examId", getBytesFromUUID(exam.getId())))
+            .toArray(MapSqlParameterSource[]::new);
+
+        if (abilityParameters.length == 0) {
+            return;
+        }
+
+        final String deleteAbilitySQL =
+            "DELETE FROM exam_ability \n" +
+                "WHERE exam_id = :examId";
+
+        final String insertAbilitySQL =
+            "INSERT INTO exam_ability ( \n" +
+                "exam_id, \n" +
+                "measure_of, \n" +
+                "measure_label, \n" +
+                "client_name, \n" +
+                "student_id, \n" +
+                "subject, \n" +
+                "assessment_id, \n" +
+                "attempts, \n" +
+                "date_scored, \n" +
+                "score \n" +
+                ") \n" +
+                "SELECT \n" +
+                "e.id, \n" +
+                "es.measure_of, \n" +
+                "es.measure_label, \n" +
+                "e.client_name, \n" +
+                "e.student_id, \n" +
+                "e.subject, \n" +
+                "e.assessment_id, \n" +
+                "ec.attempts, \n" +
+                "ec.date_scored, \n" +
+                "es.value \n" +
+                "FROM exam e \n" +
+                "JOIN exam_current ec \n" +
+                "  ON ec.exam_id = e.id \n" +
+                "JOIN exam_scores es \n" +
+                "  ON es.exam_id = e.id \n" +
+                "WHERE \n" +
+                "e.id = :examId AND \n" +
+                "ec.date_deleted IS NULL AND \n" +
+                "ec.date_scored IS NOT NULL AND \n" +
+                "es.use_for_ability = 1 AND \n" +
+                "es.value IS NOT NULL";
+
+        jdbcTemplate.batchUpdate(deleteAbilitySQL, abilityParameters);
+        jdbcTemplate.batchUpdate(insertAbilitySQL, abilityParameters);
     }
 }
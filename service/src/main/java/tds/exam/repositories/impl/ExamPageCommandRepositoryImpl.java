@@ -8,6 +8,7 @@ import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
@@ -28,6 +29,7 @@ public class ExamPageCommandRepositoryImpl implements ExamPageCommandRepository
     }
 
     @Override
+    @Transactional
     public void insert(List<ExamPage> examPages) {
         final String examPageSQL =
             "INSERT INTO exam_page (\n" +
@@ -49,10 +51,12 @@ public class ExamPageCommandRepositoryImpl implements ExamPageCommandRepository
             examPage.setId(keyHolder.getKey().longValue());
 
             update(examPage);
+            updateLastActivity(examPage);
         });
     }
 
     @Override
+    @Transactional
     public void deleteAll(final UUID examId) {
         final SqlParameterSource params = new MapSqlParameterSource("examId", getBytesFromUUID(examId));
 
@@ -71,6 +75,17 @@ public class ExamPageCommandRepositoryImpl implements ExamPageCommandRepository
             "   P.exam_id = :examId";
 
         jdbcTemplate.update(SQL, params);
+
+        // No responses remain on a page that has not been deleted
+        final String resetItemPositionSQL =
+            "UPDATE \n" +
+            "   exam_current \n" +
+            "SET \n" +
+            "   current_item_position = 0 \n" +
+            "WHERE \n" +
+            "   exam_id = :examId";
+
+        jdbcTemplate.update(resetItemPositionSQL, params);
     }
 
     private void update(ExamPage examPage) {
@@ -84,4 +99,20 @@ public class ExamPageCommandRepositoryImpl implements ExamPageCommandRepository
 
         jdbcTemplate.update(updatePageSQL, parameterSources);
     }
+
+    private void updateLastActivity(ExamPage examPage) {
+        final String updateLastActivitySQL =
+            "UPDATE \n" +
+            "   exam_current EC \n" +
+            "JOIN \n" +
+            "   exam_page P \n" +
+            "ON \n" +
+            "   P.exam_id = EC.exam_id \n" +
+            "SET \n" +
+            "   EC.last_activity_at = GREATEST(COALESCE(EC.last_activity_at, P.created_at), P.created_at) \n" +
+            "WHERE \n" +
+            "   P.id = :examPageId";
+
+        jdbcTemplate.update(updateLastActivitySQL, new MapSqlParameterSource("examPageId", examPage.getId()));
+    }
 }
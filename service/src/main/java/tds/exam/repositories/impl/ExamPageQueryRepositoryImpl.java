@@ -43,11 +43,15 @@ public class ExamPageQueryRepositoryImpl implements ExamPageQueryRepository {
                 "   exam_page P\n" +
                 "JOIN ( \n" +
                 "   SELECT \n" +
-                "       exam_page_id, \n" +
-                "       MAX(id) AS id \n" +
+                "       LPE.exam_page_id, \n" +
+                "       MAX(LPE.id) AS id \n" +
                 "   FROM \n" +
-                "       exam_page_event \n" +
-                "   GROUP BY exam_page_id \n" +
+                "       exam_page_event LPE \n" +
+                "   JOIN exam_page LP \n" +
+                "       ON LP.id = LPE.exam_page_id \n" +
+                "   WHERE \n" +
+                "       LP.exam_id = :examId \n" +
+                "   GROUP BY LPE.exam_page_id \n" +
                 ") last_event \n" +
                 "   ON P.id = last_event.exam_page_id \n" +
                 "JOIN exam_page_event PE \n" +
@@ -23,16 +23,17 @@ import java.util.UUID;
 import tds.common.data.mapping.ResultSetMapperUtility;
 import tds.common.data.mysql.UuidAdapter;
 import tds.exam.Exam;
-import tds.exam.ExamStatusCode;
-import tds.exam.ExamStatusStage;
 import tds.exam.models.Ability;
 import tds.exam.repositories.ExamQueryRepository;
+import tds.exam.repositories.ExamStatusQueryRepository;
 
 import static tds.common.data.mapping.ResultSetMapperUtility.mapTimestampToJodaInstant;
 
 @Repository
 public class ExamQueryRepositoryImpl implements ExamQueryRepository {
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ExamStatusQueryRepository examStatusQueryRepository;
+    private final ExamCache examCache;
     private final String EXAM_QUERY_COLUMN_LIST = "e.id, \n" +
         "e.session_id, \n" +
         "ee.browser_id, \n" +
@@ -64,39 +65,32 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
         "ee.waiting_for_segment_approval, \n" +
         "ee.current_segment_position, \n" +
         "ee.custom_accommodations, \n" +
-        "e.created_at, \n" +
-        "esc.description, \n" +
-        "esc.status, \n" +
-        "esc.stage \n";
+        "e.created_at \n";
 
     @Autowired
-    public ExamQueryRepositoryImpl(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate queryJdbcTemplate) {
+    public ExamQueryRepositoryImpl(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate queryJdbcTemplate,
+                                   ExamStatusQueryRepository examStatusQueryRepository,
+                                   ExamCache examCache) {
         this.jdbcTemplate = queryJdbcTemplate;
+        this.examStatusQueryRepository = examStatusQueryRepository;
+        this.examCache = examCache;
     }
 
     @Override
     public Optional<Exam> getExamById(UUID id) {
+        return examCache.get(id, () -> findExamById(id));
+    }
+
+    private Optional<Exam> findExamById(UUID id) {
         final SqlParameterSource parameters = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(id));
 
         String querySQL =
             "SELECT \n" +
                 EXAM_QUERY_COLUMN_LIST +
                 "FROM exam.exam e\n" +
-                "JOIN ( \n" +
-                "   SELECT \n" +
-                "       exam_id, \n" +
-                "       MAX(id) AS id \n" +
-                "   FROM \n" +
-                "       exam.exam_event \n" +
-                "   WHERE exam_id = :examId\n" +
-                "   GROUP BY exam_id \n" +
-                ") last_event \n" +
-                "  ON e.id = last_event.exam_id \n" +
-                "JOIN exam.exam_event ee \n" +
-                "  ON last_event.exam_id = ee.exam_id AND \n" +
-                "     last_event.id = ee.id\n" +
-                "JOIN exam.exam_status_codes esc \n" +
-                "  ON esc.status = ee.status";
+                "JOIN exam.exam_current ee \n" +
+                "  ON e.id = ee.exam_id \n" +
+                "WHERE e.id = :examId";
 
         Optional<Exam> examOptional;
         try {
@@ -121,27 +115,16 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
             "SELECT " +
                 EXAM_QUERY_COLUMN_LIST +
                 "FROM exam.exam e\n" +
-                "JOIN ( \n" +
-                "   SELECT \n" +
-                "       exam_id, \n" +
-                "       MAX(id) AS id \n" +
-                "   FROM \n" +
-                "       exam.exam_event \n" +
-                "   WHERE date_deleted IS NULL \n" +
-                "   GROUP BY exam_id \n" +
-                ") last_event \n" +
-                "  ON e.id = last_event.exam_id \n" +
-                "JOIN exam.exam_event ee \n" +
-                "  ON last_event.exam_id = ee.exam_id AND \n" +
-                "     last_event.id = ee.id \n" +
-                "JOIN exam.exam_status_codes esc \n" +
-                "  ON esc.status = ee.status \n" +
+                "JOIN exam.exam_current ee \n" +
+                "  ON e.id = ee.exam_id \n" +
                 "WHERE \n" +
                 "   e.student_id = :studentId \n" +
                 "   AND e.assessment_id = :assessmentId \n" +
                 "   AND e.client_name = :clientName \n" +
+                "   AND ee.date_deleted IS NULL \n" +
                 "ORDER BY \n" +
-                "   e.created_at DESC";
+                "   e.created_at DESC \n" +
+                "LIMIT 1";
 
         Optional<Exam> examOptional;
         try {
@@ -159,57 +142,18 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
 
         final String SQL =
             "SELECT \n" +
-                "   MAX(lastStudentActivityTime)\n" +
-                "FROM (\n" +
-                "   SELECT \n" +
-                "       MAX(ee.date_changed) AS lastStudentActivityTime\n" +
-                "   FROM \n" +
-                "       exam e \n" +
-                "   JOIN \n" +
-                "       exam_event ee\n" +
-                "   ON \n" +
-                "       ee.exam_id = e.id\n" +
-                "   WHERE\n" +
-                "       ee.status = 'paused' AND\n" +
-                "       e.id = :examId\n" +
-                "   UNION ALL\n" +
-                "   SELECT \n" +
-                "       MAX(IR.created_at) AS lastStudentActivityTime\n" +
-                "   FROM \n" +
-                "       exam_item_response IR\n" +
-                "   JOIN\n" +
-                "       exam_item I\n" +
-                "   ON \n" +
-                "       I.id = IR.exam_item_id\n" +
-                "   JOIN \n" +
-                "       exam_page P \n" +
-                "   ON\n" +
-                "       P.id = I.exam_page_id\n" +
-                "   JOIN\n" +
-                "       exam_page_event PE\n" +
-                "   ON\n" +
-                "       P.id = PE.exam_page_id\n" +
-                "   WHERE\n" +
-                "       P.exam_id = :examId AND\n" +
-                "       PE.deleted_at IS NULL \n" +
-                "   UNION ALL\n" +
-                "   SELECT \n" +
-                "       MAX(P.created_at) AS lastStudentActivityTime\n" +
-                "   FROM \n" +
-                "       exam_page P\n" +
-                "   JOIN \n" +
-                "       exam_page_event PE\n" +
-                "   ON\n" +
-                "       P.id = PE.exam_page_id\n" +
-                "   WHERE \n" +
-                "       P.exam_id = :examId AND\n" +
-                "       PE.deleted_at IS NULL \n" +
-                ") as lastStudentActivityTime";
+                "   last_activity_at \n" +
+                "FROM \n" +
+                "   exam_current \n" +
+                "WHERE \n" +
+                "   exam_id = :examId";
 
         Optional<Instant> maybeLastStudentActivityTime;
         try {
-            Timestamp lastPausedTime = jdbcTemplate.queryForObject(SQL, parameters, Timestamp.class);
-            maybeLastStudentActivityTime = Optional.of(new Instant(lastPausedTime.getTime()));
+            Timestamp lastActivityTime = jdbcTemplate.queryForObject(SQL, parameters, Timestamp.class);
+            maybeLastStudentActivityTime = lastActivityTime == null
+                ? Optional.empty()
+                : Optional.of(new Instant(lastActivityTime.getTime()));
         } catch (EmptyResultDataAccessException e) {
             maybeLastStudentActivityTime = Optional.empty();
         }
@@ -226,20 +170,8 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
             "SELECT \n" +
                 EXAM_QUERY_COLUMN_LIST +
                 "FROM exam.exam e \n" +
-                "JOIN ( \n" +
-                "   SELECT \n" +
-                "       exam_id, \n" +
-                "       MAX(id) AS id \n" +
-                "   FROM \n" +
-                "       exam.exam_event \n" +
-                "   GROUP BY exam_id \n" +
-                ") last_event \n" +
-                "  ON e.id = last_event.exam_id \n" +
-                "JOIN exam.exam_event ee \n" +
-                "  ON last_event.exam_id = ee.exam_id AND \n" +
-                "     last_event.id = ee.id\n" +
-                "JOIN exam.exam_status_codes esc \n" +
-                "  ON esc.status = ee.status \n" +
+                "JOIN exam.exam_current ee \n" +
+                "  ON e.id = ee.exam_id \n" +
                 "WHERE e.session_id = :sessionId \n" +
                 "AND ee.status IN (:statusSet)";
 
@@ -256,40 +188,18 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
 
         final String SQL =
             "SELECT\n" +
-                "exam.id,\n" +
-                "exam.assessment_id,\n" +
-                "ee.attempts,\n" +
-                "ee.date_scored,\n" +
-                "exam_scores.value AS score\n" +
-                "FROM exam exam \n" +
-                "JOIN ( \n" +
-                "   SELECT \n" +
-                "       exam_id, \n" +
-                "       MAX(id) AS id \n" +
-                "   FROM \n" +
-                "       exam.exam_event \n" +
-                "   GROUP BY exam_id \n" +
-                ") last_event \n" +
-                "  ON exam.id = last_event.exam_id \n" +
-                "JOIN exam.exam_event ee \n" +
-                "  ON last_event.exam_id = ee.exam_id AND \n" +
-                "     last_event.id = ee.id \n" +
-                "JOIN exam.exam_status_codes esc \n" +
-                "  ON esc.status = ee.status \n" +
-                "INNER JOIN \n" +
-                "exam_scores \n" +
-                "ON \n" +
-                "exam.id = exam_scores.exam_id \n" +
+                "exam_id AS id,\n" +
+                "assessment_id,\n" +
+                "attempts,\n" +
+                "date_scored,\n" +
+                "score\n" +
+                "FROM exam_ability \n" +
                 "WHERE\n" +
-                "exam.client_name = :clientName AND\n" +
-                "exam.student_id = :studentId AND\n" +
-                "exam.subject = :subject AND\n" +
-                "ee.date_deleted IS NULL AND\n" +
-                "ee.date_scored IS NOT NULL AND\n" +
-                "exam.id <> :examId AND\n" +
-                "exam_scores.use_for_ability = 1 AND\n" +
-                "exam_scores.value IS NOT NULL \n" +
-                "ORDER BY ee.date_scored DESC";
+                "client_name = :clientName AND\n" +
+                "student_id = :studentId AND\n" +
+                "subject = :subject AND\n" +
+                "exam_id <> :examId \n" +
+                "ORDER BY date_scored DESC";
 
         return jdbcTemplate.query(SQL, parameters, new AbilityRowMapper());
     }
@@ -335,10 +245,8 @@ public class ExamQueryRepositoryImpl implements ExamQueryRepository {
                 .withCreatedAt(mapTimestampToJodaInstant(rs, "created_at"))
                 .withDateJoined(mapTimestampToJodaInstant(rs, "date_joined"))
                 .withExpireFrom(mapTimestampToJodaInstant(rs, "expire_from"))
-                .withStatus(new ExamStatusCode(
-                    rs.getString("status"),
-                    ExamStatusStage.fromType(rs.getString("stage"))
-                ), mapTimestampToJodaInstant(rs, "status_change_date"))
+                .withStatus(examStatusQueryRepository.findExamStatusCode(rs.getString("status")),
+                    mapTimestampToJodaInstant(rs, "status_change_date"))
                 .withStatusChangeReason(rs.getString("status_change_reason"))
                 .withAbnormalStarts(rs.getInt("abnormal_starts"))
                 .withWaitingForSegmentApproval(rs.getBoolean("waiting_for_segment_approval"))
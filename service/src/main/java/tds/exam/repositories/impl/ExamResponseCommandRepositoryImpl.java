@@ -6,8 +6,10 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import tds.exam.models.ExamItemResponse;
 import tds.exam.repositories.ExamResponseCommandRepository;
@@ -25,6 +27,7 @@ public class ExamResponseCommandRepositoryImpl implements ExamResponseCommandRep
     }
 
     @Override
+    @Transactional
     public void insert(List<ExamItemResponse> examItemResponses) {
         final SqlParameterSource[] parameterSources = examItemResponses.stream()
             .map(examResponse -> new MapSqlParameterSource("examItemId", examResponse.getExamItemId())
@@ -39,5 +42,52 @@ public class ExamResponseCommandRepositoryImpl implements ExamResponseCommandRep
             ")";
 
         jdbcTemplate.batchUpdate(examResponsesSQL, parameterSources);
+
+        if (examItemResponses.isEmpty()) {
+            return;
+        }
+
+        final SqlParameterSource examItemParameters = new MapSqlParameterSource("examItemIds", examItemResponses.stream()
+            .map(ExamItemResponse::getExamItemId)
+            .distinct()
+            .collect(Collectors.toList()));
+        // Keeps exam_current's last activity and the position of the furthest item answered on a page that has not been deleted
+        final String updateExamCurrentSQL =
+            "UPDATE \n" +
+            "   exam_current EC \n" +
+            "JOIN ( \n" +
+            "   SELECT \n" +
+            "       P.exam_id, \n" +
+            "       MAX(IR.created_at) AS responded_at, \n" +
+            "       MAX(CASE \n" +
+            "           WHEN NOT EXISTS ( \n" +
+            "               SELECT 1 \n" +
+            "               FROM exam_page_event PE \n" +
+            "               WHERE PE.exam_page_id = P.id AND PE.deleted_at IS NOT NULL \n" +
+            "           ) THEN I.position \n" +
+            "           ELSE 0 \n" +
+            "       END) AS position \n" +
+            "   FROM \n" +
+            "       exam_item_response IR \n" +
+            "   JOIN \n" +
+            "       exam_item I \n" +
+            "   ON \n" +
+            "       I.id = IR.exam_item_id \n" +
+            "   JOIN \n" +
+            "       exam_page P \n" +
+            "   ON \n" +
+            "       P.id = I.exam_page_id \n" +
+            "   WHERE \n" +
+            "       IR.exam_item_id IN (:examItemIds) \n" +
+            "   GROUP BY \n" +
+            "       P.exam_id \n" +
+            ") last_response \n" +
+            "ON \n" +
+            "   last_response.exam_id = EC.exam_id \n" +
+            "SET \n" +
+            "   EC.last_activity_at = GREATEST(COALESCE(EC.last_activity_at, last_response.responded_at), last_response.responded_at), \n" +
+            "   EC.current_item_position = GREATEST(EC.current_item_position, last_response.position)";
+
+        jdbcTemplate.update(updateExamCurrentSQL, examItemParameters);
     }
 }
@@ -27,24 +27,11 @@ public class ExamResponseQueryRepositoryImpl implements ExamResponseQueryReposit
         final SqlParameterSource params = new MapSqlParameterSource("examId", getBytesFromUUID(examId));
         final String SQL =
             "SELECT \n" +
-                "   MAX(I.position)\n" +
+                "   current_item_position \n" +
                 "FROM \n" +
-                "   exam_item I\n" +
-                "JOIN \n" +
-                "   exam_item_response IR \n" +
-                "ON \n" +
-                "   IR.exam_item_id = I.id\n" +
-                "JOIN \n" +
-                "   exam_page P \n" +
-                "ON \n" +
-                "   P.id = I.exam_page_id\n" +
-                "JOIN\n" +
-                "   exam_page_event PE\n" +
-                "ON \n" +
-                "   P.id = PE.exam_page_id\n" +
-                "WHERE\n" +
-                "   P.exam_id = :examId AND\n" +
-                "   PE.deleted_at IS NULL;\n";
+                "   exam_current \n" +
+                "WHERE \n" +
+                "   exam_id = :examId";
 
         return jdbcTemplate.queryForObject(SQL, params, Integer.class);
     }
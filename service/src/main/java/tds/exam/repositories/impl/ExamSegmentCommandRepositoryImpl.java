@@ -6,6 +6,7 @@ import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -34,6 +35,7 @@ public class ExamSegmentCommandRepositoryImpl implements ExamSegmentCommandRepos
      * @inheritDoc
      */
     @Override
+    @Transactional
     public void insert(final List<ExamSegment> segments) {
         final List<SqlParameterSource> parameterSources = segments.stream()
             .map(segment -> new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(segment.getExamId()))
@@ -87,11 +89,13 @@ public class ExamSegmentCommandRepositoryImpl implements ExamSegmentCommandRepos
     }
 
     @Override
+    @Transactional
     public void update(final ExamSegment segment) {
         update(Arrays.asList(segment));
     }
 
     @Override
+    @Transactional
     public void update(final List<ExamSegment> segments) {
         final List<SqlParameterSource> parameterSources = new ArrayList<>();
         segments.forEach(segment -> {
@@ -126,6 +130,36 @@ public class ExamSegmentCommandRepositoryImpl implements ExamSegmentCommandRepos
                 "   :itemPool \n" +
                 ")";
 
-        jdbcTemplate.batchUpdate(segmentEventQuery, parameterSources.toArray(new SqlParameterSource[parameterSources.size()]));
+        final SqlParameterSource[] batchParameters = parameterSources.toArray(new SqlParameterSource[parameterSources.size()]);
+        jdbcTemplate.batchUpdate(segmentEventQuery, batchParameters);
+
+        // exam_segment_current mirrors the latest exam_segment_event so reads are a primary key lookup
+        final String segmentCurrentQuery =
+            "INSERT INTO exam_segment_current (\n" +
+                "   exam_id, \n" +
+                "   segment_position, \n" +
+                "   satisfied, \n" +
+                "   permeable, \n" +
+                "   restore_permeable_condition, \n" +
+                "   date_exited, \n" +
+                "   item_pool \n" +
+                ") \n" +
+                "VALUES ( \n" +
+                "   :examId, \n" +
+                "   :segmentPosition, \n" +
+                "   :isSatisfied, \n" +
+                "   :isPermeable, \n" +
+                "   :restorePermeableCondition, \n" +
+                "   :dateExited, \n" +
+                "   :itemPool \n" +
+                ") \n" +
+                "ON DUPLICATE KEY UPDATE \n" +
+                "   satisfied = VALUES(satisfied), \n" +
+                "   permeable = VALUES(permeable), \n" +
+                "   restore_permeable_condition = VALUES(restore_permeable_condition), \n" +
+                "   date_exited = VALUES(date_exited), \n" +
+                "   item_pool = VALUES(item_pool)";
+
+        jdbcTemplate.batchUpdate(segmentCurrentQuery, batchParameters);
     }
 }
@@ -66,26 +66,15 @@ public class ExamSegmentQueryRepositoryImpl implements ExamSegmentQueryRepositor
                 "   s.created_at \n" +
                 "FROM \n" +
                 "   exam_segment s \n" +
-                "INNER JOIN ( \n" +
-                "   SELECT \n" +
-                "       exam_id, \n" +
-                "       segment_position, \n" +
-                "       MAX(id) AS id \n" +
-                "   FROM \n" +
-                "       exam_segment_event \n" +
-                "   WHERE exam_id = :examId \n" +
-                "   GROUP BY \n" +
-                "       exam_id, segment_position \n" +
-                ") last_event \n" +
-                "ON s.exam_id = last_event.exam_id AND \n" +
-                "   s.segment_position = last_event.segment_position \n" +
                 "INNER JOIN \n" +
-                "   exam_segment_event se \n" +
+                "   exam_segment_current se \n" +
                 "ON \n" +
-                "   last_event.exam_id = se.exam_id AND \n" +
-                "   last_event.id = se.id \n" +
+                "   s.exam_id = se.exam_id AND \n" +
+                "   s.segment_position = se.segment_position \n" +
+                "WHERE \n" +
+                "   s.exam_id = :examId \n" +
                 "ORDER BY \n" +
-                "   segment_position \n";
+                "   s.segment_position \n";
 
         return jdbcTemplate.query(SQL, parameters, new ExamSegmentRowMapper());
     }
@@ -120,16 +109,12 @@ public class ExamSegmentQueryRepositoryImpl implements ExamSegmentQueryRepositor
                 "   s.created_at \n" +
                 "FROM \n" +
                 "   exam_segment s \n" +
-                "JOIN exam_segment_event se \n" +
+                "JOIN exam_segment_current se \n" +
                 "   ON s.exam_id = se.exam_id AND \n" +
                 "       s.segment_position = se.segment_position \n" +
                 "WHERE \n" +
                 "   s.exam_id = :examId AND \n " +
-                "   s.segment_position = :segmentPosition \n" +
-                "ORDER BY \n" +
-                "   se.id \n" +
-                "DESC \n" +
-                "LIMIT 1";
+                "   s.segment_position = :segmentPosition";
 
         Optional<ExamSegment> maybeExamSegment;
 
@@ -1,38 +1,115 @@
 package tds.exam.repositories.impl;
 
+import com.google.common.collect.ImmutableMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
-import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
 import tds.exam.ExamStatusCode;
 import tds.exam.ExamStatusStage;
 import tds.exam.repositories.ExamStatusQueryRepository;
 
+/**
+ * The exam_status_codes table is small and effectively static so it is read on first use and kept in memory.  Every
+ * lookup returns the same {@link tds.exam.ExamStatusCode} instance for a given code.  Until a read succeeds each
+ * lookup tries again, so an unreachable database only fails the lookups made while it is down.  An unknown code
+ * refreshes the registry at most once per {@link #MISS_RELOAD_INTERVAL_MILLIS} so bad input cannot turn every lookup
+ * into a table read.
+ */
 @Repository
 public class ExamStatusQueryRepositoryImpl implements ExamStatusQueryRepository {
+    private static final Logger LOG = LoggerFactory.getLogger(ExamStatusQueryRepositoryImpl.class);
+    static final long MISS_RELOAD_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
     private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final LongSupplier clock;
+    private final AtomicLong nextMissReloadAt = new AtomicLong();
+    private volatile Map<String, ExamStatusCode> statusCodes;
 
     @Autowired
     public ExamStatusQueryRepositoryImpl(@Qualifier("queryJdbcTemplate") NamedParameterJdbcTemplate queryJdbcTemplate) {
+        this(queryJdbcTemplate, System::currentTimeMillis);
+    }
+
+    ExamStatusQueryRepositoryImpl(NamedParameterJdbcTemplate queryJdbcTemplate, LongSupplier clock) {
         this.jdbcTemplate = queryJdbcTemplate;
+        this.clock = clock;
     }
 
     @Override
-    public ExamStatusCode findExamStatusCode(String code) {
-        SqlParameterSource parameters = new MapSqlParameterSource("code", code);
-
+    public void reloadExamStatusCodes() {
         String SQL = "SELECT \n" +
             "status, \n" +
             "stage \n" +
-            "FROM exam_status_codes \n" +
-            "WHERE status = :code";
+            "FROM exam_status_codes";
 
-        return jdbcTemplate.queryForObject(SQL, parameters, (resultSet, i) ->
+        List<ExamStatusCode> codes = jdbcTemplate.query(SQL, new MapSqlParameterSource(), (resultSet, i) ->
             new ExamStatusCode(resultSet.getString("status"),
                 ExamStatusStage.fromType(resultSet.getString("stage")))
         );
+
+        ImmutableMap.Builder<String, ExamStatusCode> builder = ImmutableMap.builder();
+        codes.forEach(code -> builder.put(code.getCode(), code));
+        statusCodes = builder.build();
+
+        LOG.debug("Loaded {} exam status codes", codes.size());
+    }
+
+    @Override
+    public ExamStatusCode findExamStatusCode(String code) {
+        ExamStatusCode statusCode = loadedStatusCodes().get(code);
+
+        if (statusCode == null && claimMissReload()) {
+            // A code may have been added after the registry was loaded so refresh once before giving up
+            reloadExamStatusCodes();
+            statusCode = statusCodes.get(code);
+        }
+
+        if (statusCode == null) {
+            throw new EmptyResultDataAccessException("Could not find exam status code " + code, 1);
+        }
+
+        return statusCode;
+    }
+
+    /**
+     * @return the registry, read from the database if this is the first lookup to get this far
+     */
+    private Map<String, ExamStatusCode> loadedStatusCodes() {
+        Map<String, ExamStatusCode> codes = statusCodes;
+        if (codes != null) {
+            return codes;
+        }
+
+        synchronized (this) {
+            if (statusCodes == null) {
+                reloadExamStatusCodes();
+                // The registry was just read so a miss right after it has nothing new to find
+                nextMissReloadAt.set(clock.getAsLong() + MISS_RELOAD_INTERVAL_MILLIS);
+            }
+            return statusCodes;
+        }
+    }
+
+    /**
+     * @return {@code true} if the caller may reload the registry for a miss; concurrent misses within the interval
+     * share a single reload
+     */
+    private boolean claimMissReload() {
+        long now = clock.getAsLong();
+        long next = nextMissReloadAt.get();
+
+        return now >= next && nextMissReloadAt.compareAndSet(next, now + MISS_RELOAD_INTERVAL_MILLIS);
     }
 }
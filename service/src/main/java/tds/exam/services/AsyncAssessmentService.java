@@ -0,0 +1,22 @@
+package tds.exam.services;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.assessment.Assessment;
+
+/**
+ * Service handles assessment interaction without blocking the calling thread
+ *
+ * @see tds.exam.services.AssessmentService
+ */
+public interface AsyncAssessmentService {
+    /**
+     * Finds the {@link tds.assessment.Assessment}
+     *
+     * @param clientName The name of the client (e.g. SBAC or SBAC_PT)
+     * @param key        unique key for the assessment
+     * @return future completed with {@link tds.assessment.Assessment the assessment} if found otherwise empty
+     */
+    CompletableFuture<Optional<Assessment>> findAssessment(String clientName, String key);
+}
@@ -0,0 +1,22 @@
+package tds.exam.services;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.ClientSystemFlag;
+
+/**
+ * A service that handles configuration interaction without blocking the calling thread.
+ *
+ * @see tds.exam.services.ConfigService
+ */
+public interface AsyncConfigService {
+    /**
+     * Finds the {@link tds.config.ClientSystemFlag} for client
+     *
+     * @param clientName  environment's client name
+     * @param auditObject type of system flag
+     * @return future completed with the {@link tds.config.ClientSystemFlag} if found otherwise empty
+     */
+    CompletableFuture<Optional<ClientSystemFlag>> findClientSystemFlag(final String clientName, final String auditObject);
+}
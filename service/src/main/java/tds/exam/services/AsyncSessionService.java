@@ -0,0 +1,22 @@
+package tds.exam.services;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import tds.session.Session;
+
+/**
+ * Handles interaction with session properties without blocking the calling thread
+ *
+ * @see tds.exam.services.SessionService
+ */
+public interface AsyncSessionService {
+    /**
+     * Retrieves a session by id
+     *
+     * @param sessionId the session id
+     * @return future completed with an optional populated with {@link tds.session.Session session} if found otherwise empty
+     */
+    CompletableFuture<Optional<Session>> findSessionById(UUID sessionId);
+}
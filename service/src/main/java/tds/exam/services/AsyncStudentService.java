@@ -0,0 +1,21 @@
+package tds.exam.services;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.student.Student;
+
+/**
+ * Handles student operations without blocking the calling thread
+ *
+ * @see tds.exam.services.StudentService
+ */
+public interface AsyncStudentService {
+    /**
+     * Retrieves the student by the student id
+     *
+     * @param studentId id for the student
+     * @return future completed with a populated optional with student otherwise empty
+     */
+    CompletableFuture<Optional<Student>> getStudentById(long studentId);
+}
@@ -0,0 +1,23 @@
+package tds.exam.services;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.TimeLimitConfiguration;
+
+/**
+ * Handles interaction with time limit configuration data without blocking the calling thread.
+ *
+ * @see tds.exam.services.TimeLimitConfigurationService
+ */
+public interface AsyncTimeLimitConfigurationService {
+    /**
+     * Get {@link TimeLimitConfiguration} from the configuration service.
+     *
+     * @param clientName   The name of the client that owns the {@link TimeLimitConfiguration}
+     * @param assessmentId The id of the assessment that might have specific time limit settings.
+     * @return A future completed with an optional containing the {@link TimeLimitConfiguration} for the client name;
+     * otherwise empty.
+     */
+    CompletableFuture<Optional<TimeLimitConfiguration>> findTimeLimitConfiguration(String clientName, String assessmentId);
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import tds.config.Accommodation;
 import tds.config.AssessmentWindow;
 import tds.config.ClientSystemFlag;
+import tds.exam.models.AssessmentAccommodations;
 import tds.session.ExternalSessionConfiguration;
 
 /**
@@ -41,6 +42,15 @@ public interface ConfigService {
      */
     List<Accommodation> findAssessmentAccommodationsByAssessmentKey(final String clientName, final String assessmentKey);
 
+    /**
+     * Finds the {@link tds.config.Accommodation}s for the assessment key indexed for lookups
+     *
+     * @param clientName    the client name associated with the assessment
+     * @param assessmentKey the assessment key
+     * @return {@link tds.exam.models.AssessmentAccommodations} for the assessment key
+     */
+    AssessmentAccommodations findAssessmentAccommodations(final String clientName, final String assessmentKey);
+
     /**
      * Finds the {@link tds.config.Accommodation} for the assessment id
      * @param clientName the client name associated with the assessment
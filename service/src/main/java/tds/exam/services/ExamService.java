@@ -2,6 +2,7 @@ package tds.exam.services;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import tds.assessment.Assessment;
 import tds.common.Response;
@@ -27,12 +28,12 @@ public interface ExamService {
     Optional<Exam> findExam(UUID uuid);
 
     /**
-     * Opens a new exam
+     * Opens a new exam.  The lookups against other services are made without blocking the calling thread.
      *
      * @param openExamRequest {@link tds.exam.OpenExamRequest}
-     * @return {@link tds.common.Response<tds.exam.Exam>} containing exam or errors
+     * @return future completed with {@link tds.common.Response<tds.exam.Exam>} containing exam or errors
      */
-    Response<Exam> openExam(OpenExamRequest openExamRequest);
+    CompletableFuture<Response<Exam>> openExam(OpenExamRequest openExamRequest);
 
     /**
      * Get approval for the open exam request.
@@ -47,12 +48,13 @@ public interface ExamService {
     Response<ExamApproval> getApproval(ApprovalRequest approvalRequest);
 
     /**
-     * Starts a new or existing exam.
+     * Starts a new or existing exam.  The lookups against other services are made without blocking the calling thread.
      *
      * @param examId The exam to start
-     * @return {@link tds.common.Response<tds.exam.Exam>} containing the exam's configuration or errors.
+     * @return future completed with {@link tds.common.Response<tds.exam.Exam>} containing the exam's configuration or
+     * errors.
      */
-    Response<ExamConfiguration> startExam(UUID examId);
+    CompletableFuture<Response<ExamConfiguration>> startExam(UUID examId);
 
     /**
      * Retrieves the initial ability value for an {@link Exam}.
@@ -6,6 +6,8 @@ import java.util.UUID;
 
 import tds.assessment.Item;
 import tds.assessment.ItemConstraint;
+import tds.assessment.Segment;
+import tds.exam.ExamAccommodation;
 
 /**
  * A service used for selecting items for exam segments.
@@ -33,4 +35,29 @@ public interface ItemPoolService {
      * @return returns a filtered list of {@link tds.assessment.Item}s eligible for the segment pool
      */
     Set<Item> getItemPool(UUID examId, List<ItemConstraint> itemConstraints, List<Item> items, Boolean isFieldTest);
+
+    /**
+     * Retrieves a collection of eligible items for the exam segment based on exam accommodations and assessment
+     * item constraints.  The segment's items are indexed by their properties once per segment and language.
+     *
+     * @param examId          the id of the {@link tds.exam.Exam}
+     * @param itemConstraints the {@link tds.assessment.ItemConstraint}s for the assessment
+     * @param segment         the {@link tds.assessment.Segment} whose items are selected from
+     * @param languageCode    the language of the exam
+     * @return returns a filtered list of {@link tds.assessment.Item}s eligible for the segment pool
+     */
+    Set<Item> getItemPool(UUID examId, List<ItemConstraint> itemConstraints, Segment segment, String languageCode);
+
+    /**
+     * Retrieves a collection of eligible items for the exam segment based on the given exam accommodations and
+     * assessment item constraints.
+     *
+     * @param examAccommodations the {@link tds.exam.ExamAccommodation}s of the exam
+     * @param itemConstraints    the {@link tds.assessment.ItemConstraint}s for the assessment
+     * @param segment            the {@link tds.assessment.Segment} whose items are selected from
+     * @param languageCode       the language of the exam
+     * @return returns a filtered list of {@link tds.assessment.Item}s eligible for the segment pool
+     */
+    Set<Item> getItemPool(List<ExamAccommodation> examAccommodations, List<ItemConstraint> itemConstraints,
+                          Segment segment, String languageCode);
 }
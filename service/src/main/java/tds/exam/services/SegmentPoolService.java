@@ -6,6 +6,7 @@ import java.util.UUID;
 import tds.assessment.ItemConstraint;
 import tds.assessment.Segment;
 import tds.exam.Exam;
+import tds.exam.ExamAccommodation;
 import tds.exam.models.SegmentPoolInfo;
 
 /**
@@ -22,4 +23,17 @@ public interface SegmentPoolService {
      */
     SegmentPoolInfo computeSegmentPool(UUID examId, Segment segment, List<ItemConstraint> itemConstraints,
                                        String languageCode);
+
+    /**
+     * A {@link tds.exam.models.SegmentPoolInfo} object containing metadata about the selected segment pool for the
+     * given exam accommodations.
+     *
+     * @param examAccommodations the {@link tds.exam.ExamAccommodation}s of the exam
+     * @param segment            the segment being constructed
+     * @param itemConstraints    the {@link tds.assessment.ItemConstraint}s for the assessment
+     * @param languageCode       the language of the exam
+     * @return The {@link tds.exam.models.SegmentPoolInfo} containing segment pool information
+     */
+    SegmentPoolInfo computeSegmentPool(List<ExamAccommodation> examAccommodations, Segment segment,
+                                       List<ItemConstraint> itemConstraints, String languageCode);
 }
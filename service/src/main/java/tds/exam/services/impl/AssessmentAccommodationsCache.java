@@ -0,0 +1,69 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.AssessmentAccommodations;
+
+/**
+ * Caches the accommodations configured for each assessment keyed by client and assessment key.  The catalogue is the
+ * same for every student taking the assessment so it is loaded and indexed once.
+ */
+@Component
+class AssessmentAccommodationsCache implements CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "assessment-accommodations";
+
+    private final LoadingCache<Pair<String, String>, AssessmentAccommodations> assessmentAccommodations;
+
+    @Autowired
+    AssessmentAccommodationsCache(ConfigServiceImpl configService, ExamServiceProperties properties) {
+        this.assessmentAccommodations = CacheBuilder.newBuilder()
+            .maximumSize(properties.getAssessmentAccommodationCacheMaxSize())
+            .expireAfterWrite(properties.getAssessmentAccommodationCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build(new CacheLoader<Pair<String, String>, AssessmentAccommodations>() {
+                @Override
+                public AssessmentAccommodations load(Pair<String, String> clientAndAssessmentKey) {
+                    return configService.findAssessmentAccommodations(clientAndAssessmentKey.getLeft(),
+                        clientAndAssessmentKey.getRight());
+                }
+            });
+    }
+
+    /**
+     * Find the accommodations of the assessment, loading them from the config service when they are not cached
+     *
+     * @param clientName    the client name associated with the assessment
+     * @param assessmentKey the assessment key
+     * @return the {@link tds.exam.models.AssessmentAccommodations} of the assessment
+     */
+    AssessmentAccommodations get(String clientName, String assessmentKey) {
+        return LoadingCaches.get(assessmentAccommodations, Pair.of(clientName, assessmentKey));
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, assessmentAccommodations.size(), assessmentAccommodations.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        assessmentAccommodations.invalidateAll();
+    }
+}
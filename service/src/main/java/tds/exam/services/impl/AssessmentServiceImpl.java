@@ -5,11 +5,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Optional;
 
 import tds.assessment.Assessment;
+import tds.exam.caching.RequestMemoized;
 import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.services.AssessmentService;
 
@@ -24,15 +24,12 @@ class AssessmentServiceImpl implements AssessmentService {
         this.examServiceProperties = examServiceProperties;
     }
 
+    @RequestMemoized
     @Override
     public Optional<Assessment> findAssessment(final String clientName, final String key) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/%s/assessments/%s", examServiceProperties.getAssessmentUrl(), clientName, key));
-
         Optional<Assessment> maybeAssessment = Optional.empty();
         try {
-            final Assessment assessment = restTemplate.getForObject(builder.toUriString(), Assessment.class);
+            final Assessment assessment = restTemplate.getForObject(ServiceUrls.assessment(examServiceProperties, clientName, key), Assessment.class);
             maybeAssessment = Optional.of(assessment);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
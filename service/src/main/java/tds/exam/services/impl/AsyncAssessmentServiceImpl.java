@@ -0,0 +1,29 @@
+package tds.exam.services.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.AsyncRestTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.assessment.Assessment;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncAssessmentService;
+
+@Service
+class AsyncAssessmentServiceImpl implements AsyncAssessmentService {
+    private final AsyncRestTemplate asyncRestTemplate;
+    private final ExamServiceProperties examServiceProperties;
+
+    @Autowired
+    public AsyncAssessmentServiceImpl(AsyncRestTemplate asyncRestTemplate, ExamServiceProperties examServiceProperties) {
+        this.asyncRestTemplate = asyncRestTemplate;
+        this.examServiceProperties = examServiceProperties;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Assessment>> findAssessment(final String clientName, final String key) {
+        return AsyncRequests.getForOptional(asyncRestTemplate, ServiceUrls.assessment(examServiceProperties, clientName, key), Assessment.class);
+    }
+}
@@ -0,0 +1,33 @@
+package tds.exam.services.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.AsyncRestTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.ClientSystemFlag;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncConfigService;
+
+/**
+ * Service for retrieving data from the Config Session Microservice without blocking the calling thread
+ */
+@Service
+class AsyncConfigServiceImpl implements AsyncConfigService {
+    private final AsyncRestTemplate asyncRestTemplate;
+    private final ExamServiceProperties examServiceProperties;
+
+    @Autowired
+    public AsyncConfigServiceImpl(AsyncRestTemplate asyncRestTemplate, ExamServiceProperties examServiceProperties) {
+        this.asyncRestTemplate = asyncRestTemplate;
+        this.examServiceProperties = examServiceProperties;
+    }
+
+    @Override
+    public CompletableFuture<Optional<ClientSystemFlag>> findClientSystemFlag(String clientName, String auditObject) {
+        return AsyncRequests.getForOptional(asyncRestTemplate,
+            ServiceUrls.clientSystemFlag(examServiceProperties, clientName, auditObject), ClientSystemFlag.class);
+    }
+}
@@ -0,0 +1,44 @@
+package tds.exam.services.impl;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Issues GET requests through the {@link org.springframework.web.client.AsyncRestTemplate}, adapting its
+ * {@link org.springframework.util.concurrent.ListenableFuture} results to {@link java.util.concurrent.CompletableFuture}s
+ */
+final class AsyncRequests {
+    private AsyncRequests() {
+    }
+
+    /**
+     * Get a single object, treating a 404 response as an empty result the same as the blocking services do
+     *
+     * @param asyncRestTemplate the template to issue the request with
+     * @param url               the url to request
+     * @param responseType      the type of the response body
+     * @param <T>               the type of the response body
+     * @return future completed with the response body if found otherwise empty
+     */
+    static <T> CompletableFuture<Optional<T>> getForOptional(final AsyncRestTemplate asyncRestTemplate,
+                                                             final String url,
+                                                             final Class<T> responseType) {
+        final CompletableFuture<Optional<T>> future = new CompletableFuture<>();
+        asyncRestTemplate.getForEntity(url, responseType).addCallback(
+            response -> future.complete(Optional.ofNullable(response.getBody())),
+            failure -> {
+                if (failure instanceof HttpClientErrorException
+                    && ((HttpClientErrorException) failure).getStatusCode() == HttpStatus.NOT_FOUND) {
+                    future.complete(Optional.empty());
+                } else {
+                    future.completeExceptionally(failure);
+                }
+            });
+
+        return future;
+    }
+}
@@ -0,0 +1,42 @@
+package tds.exam.services.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.web.client.AsyncRestTemplate;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import tds.exam.caching.RequestLookupMemo;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncSessionService;
+import tds.session.Session;
+
+@Service
+class AsyncSessionServiceImpl implements AsyncSessionService {
+    private static final Method FIND_SESSION_BY_ID = ReflectionUtils.findMethod(SessionServiceImpl.class, "findSessionById", UUID.class);
+
+    private final AsyncRestTemplate asyncRestTemplate;
+    private final ExamServiceProperties examServiceProperties;
+
+    @Autowired
+    public AsyncSessionServiceImpl(AsyncRestTemplate asyncRestTemplate, ExamServiceProperties examServiceProperties) {
+        this.asyncRestTemplate = asyncRestTemplate;
+        this.examServiceProperties = examServiceProperties;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Session>> findSessionById(final UUID sessionId) {
+        final Supplier<CompletableFuture<Optional<Session>>> request = () ->
+            AsyncRequests.getForOptional(asyncRestTemplate, ServiceUrls.session(examServiceProperties, sessionId), Session.class);
+
+        // Share the request's memo with the blocking lookup so the session is only requested once per request
+        return RequestLookupMemo.current()
+            .map(memo -> memo.lookupAsync(FIND_SESSION_BY_ID, new Object[]{sessionId}, request))
+            .orElseGet(request);
+    }
+}
@@ -0,0 +1,29 @@
+package tds.exam.services.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.AsyncRestTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncStudentService;
+import tds.student.Student;
+
+@Service
+class AsyncStudentServiceImpl implements AsyncStudentService {
+    private final AsyncRestTemplate asyncRestTemplate;
+    private final ExamServiceProperties examServiceProperties;
+
+    @Autowired
+    public AsyncStudentServiceImpl(AsyncRestTemplate asyncRestTemplate, ExamServiceProperties examServiceProperties) {
+        this.asyncRestTemplate = asyncRestTemplate;
+        this.examServiceProperties = examServiceProperties;
+    }
+
+    @Override
+    public CompletableFuture<Optional<Student>> getStudentById(long studentId) {
+        return AsyncRequests.getForOptional(asyncRestTemplate, ServiceUrls.student(examServiceProperties, studentId), Student.class);
+    }
+}
@@ -0,0 +1,30 @@
+package tds.exam.services.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.AsyncRestTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.TimeLimitConfiguration;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncTimeLimitConfigurationService;
+
+@Service
+class AsyncTimeLimitConfigurationServiceImpl implements AsyncTimeLimitConfigurationService {
+    private final AsyncRestTemplate asyncRestTemplate;
+    private final ExamServiceProperties examServiceProperties;
+
+    @Autowired
+    public AsyncTimeLimitConfigurationServiceImpl(AsyncRestTemplate asyncRestTemplate, ExamServiceProperties examServiceProperties) {
+        this.asyncRestTemplate = asyncRestTemplate;
+        this.examServiceProperties = examServiceProperties;
+    }
+
+    @Override
+    public CompletableFuture<Optional<TimeLimitConfiguration>> findTimeLimitConfiguration(String clientName, String assessmentId) {
+        return AsyncRequests.getForOptional(asyncRestTemplate,
+            ServiceUrls.timeLimitConfiguration(examServiceProperties, clientName, assessmentId), TimeLimitConfiguration.class);
+    }
+}
@@ -0,0 +1,73 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import tds.assessment.Assessment;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AssessmentService;
+
+/**
+ * Caches the assessments returned by the assessment service.  An assessment is the same for every student taking it
+ * so students opening the same test at the same time share a single request.  An assessment that could not be found
+ * is not cached, so one published after the lookup is found by the next one.
+ */
+@Service
+@Primary
+class CachingAssessmentService implements AssessmentService, CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "assessments";
+
+    private final AssessmentService assessmentService;
+    private final Cache<Pair<String, String>, Assessment> assessments;
+
+    @Autowired
+    public CachingAssessmentService(@Qualifier("assessmentServiceImpl") AssessmentService assessmentService,
+                                    ExamServiceProperties properties) {
+        this.assessmentService = assessmentService;
+        this.assessments = CacheBuilder.newBuilder()
+            .maximumSize(properties.getAssessmentCacheMaxSize())
+            .expireAfterWrite(properties.getAssessmentCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public Optional<Assessment> findAssessment(final String clientName, final String key) {
+        return LoadingCaches.getIfFound(assessments, Pair.of(clientName, key),
+            () -> assessmentService.findAssessment(clientName, key));
+    }
+
+    /**
+     * @return the cache of assessments, shared with the {@link tds.exam.services.impl.CachingAsyncAssessmentService}
+     */
+    Cache<Pair<String, String>, Assessment> getCache() {
+        return assessments;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, assessments.size(), assessments.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        assessments.invalidateAll();
+    }
+}
@@ -0,0 +1,38 @@
+package tds.exam.services.impl;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.assessment.Assessment;
+import tds.exam.caching.AsyncLoadingCache;
+import tds.exam.services.AsyncAssessmentService;
+
+/**
+ * Answers non-blocking assessment lookups from the cache of the {@link tds.exam.services.impl.CachingAssessmentService}.
+ * Only an assessment that is not cached is requested from the assessment service, and it is cached once it arrives.
+ */
+@Service
+@Primary
+class CachingAsyncAssessmentService implements AsyncAssessmentService {
+    private final AsyncAssessmentService asyncAssessmentService;
+    private final AsyncLoadingCache<Pair<String, String>, Assessment> assessments;
+
+    @Autowired
+    public CachingAsyncAssessmentService(CachingAssessmentService cachingAssessmentService,
+                                         @Qualifier("asyncAssessmentServiceImpl") AsyncAssessmentService asyncAssessmentService) {
+        this.asyncAssessmentService = asyncAssessmentService;
+        this.assessments = new AsyncLoadingCache<>(cachingAssessmentService.getCache());
+    }
+
+    @Override
+    public CompletableFuture<Optional<Assessment>> findAssessment(final String clientName, final String key) {
+        return assessments.getIfFound(Pair.of(clientName, key),
+            clientAndKey -> asyncAssessmentService.findAssessment(clientName, key));
+    }
+}
@@ -0,0 +1,39 @@
+package tds.exam.services.impl;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.ClientSystemFlag;
+import tds.exam.caching.AsyncLoadingCache;
+import tds.exam.services.AsyncConfigService;
+
+/**
+ * Answers non-blocking client system flag lookups from the cache of the
+ * {@link tds.exam.services.impl.CachingConfigService}.  Only a flag that is not cached is requested from the config
+ * service, and it is cached once it arrives, including when it is not configured.
+ */
+@Service
+@Primary
+class CachingAsyncConfigService implements AsyncConfigService {
+    private final AsyncConfigService asyncConfigService;
+    private final AsyncLoadingCache<Pair<String, String>, Optional<ClientSystemFlag>> clientSystemFlags;
+
+    @Autowired
+    public CachingAsyncConfigService(CachingConfigService cachingConfigService,
+                                     @Qualifier("asyncConfigServiceImpl") AsyncConfigService asyncConfigService) {
+        this.asyncConfigService = asyncConfigService;
+        this.clientSystemFlags = new AsyncLoadingCache<>(cachingConfigService.getCache());
+    }
+
+    @Override
+    public CompletableFuture<Optional<ClientSystemFlag>> findClientSystemFlag(final String clientName, final String auditObject) {
+        return clientSystemFlags.get(CachingConfigService.key(clientName, auditObject),
+            clientAndAuditObject -> asyncConfigService.findClientSystemFlag(clientName, auditObject));
+    }
+}
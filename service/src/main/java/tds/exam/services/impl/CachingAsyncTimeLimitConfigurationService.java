@@ -0,0 +1,40 @@
+package tds.exam.services.impl;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.TimeLimitConfiguration;
+import tds.exam.caching.AsyncLoadingCache;
+import tds.exam.services.AsyncTimeLimitConfigurationService;
+
+/**
+ * Answers non-blocking time limit configuration lookups from the cache of the
+ * {@link tds.exam.services.impl.CachingTimeLimitConfigurationService}.  Only a configuration that is not cached is
+ * requested from the config service, and it is cached once it arrives, including when there is none.
+ */
+@Service
+@Primary
+class CachingAsyncTimeLimitConfigurationService implements AsyncTimeLimitConfigurationService {
+    private final AsyncTimeLimitConfigurationService asyncTimeLimitConfigurationService;
+    private final AsyncLoadingCache<Pair<String, String>, Optional<TimeLimitConfiguration>> timeLimitConfigurations;
+
+    @Autowired
+    public CachingAsyncTimeLimitConfigurationService(CachingTimeLimitConfigurationService cachingTimeLimitConfigurationService,
+                                                     @Qualifier("asyncTimeLimitConfigurationServiceImpl")
+                                                         AsyncTimeLimitConfigurationService asyncTimeLimitConfigurationService) {
+        this.asyncTimeLimitConfigurationService = asyncTimeLimitConfigurationService;
+        this.timeLimitConfigurations = new AsyncLoadingCache<>(cachingTimeLimitConfigurationService.getCache());
+    }
+
+    @Override
+    public CompletableFuture<Optional<TimeLimitConfiguration>> findTimeLimitConfiguration(final String clientName, final String assessmentId) {
+        return timeLimitConfigurations.get(Pair.of(clientName, assessmentId),
+            clientAndAssessment -> asyncTimeLimitConfigurationService.findTimeLimitConfiguration(clientName, assessmentId));
+    }
+}
@@ -0,0 +1,121 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import tds.config.Accommodation;
+import tds.config.AssessmentWindow;
+import tds.config.ClientSystemFlag;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.AssessmentAccommodations;
+import tds.exam.services.ConfigService;
+import tds.session.ExternalSessionConfiguration;
+
+/**
+ * Caches the client system flags of each client by audit object.  A flag that is not configured is cached as absent,
+ * so it is answered from memory as well.  Flags that are due for a refresh keep being returned while they are reloaded
+ * in the background.  The accommodations of an assessment are
+ * served from the {@link tds.exam.services.impl.AssessmentAccommodationsCache}.
+ */
+@Service
+@Primary
+class CachingConfigService implements ConfigService, CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "client-system-flags";
+    private static final long MAXIMUM_FLAGS = 1000;
+
+    private final ConfigService configService;
+    private final AssessmentAccommodationsCache assessmentAccommodationsCache;
+    private final LoadingCache<Pair<String, String>, Optional<ClientSystemFlag>> clientSystemFlags;
+
+    @Autowired
+    public CachingConfigService(ConfigServiceImpl configService,
+                                AssessmentAccommodationsCache assessmentAccommodationsCache,
+                                ExamServiceProperties properties,
+                                @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        this.configService = configService;
+        this.assessmentAccommodationsCache = assessmentAccommodationsCache;
+        this.clientSystemFlags = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_FLAGS)
+            .refreshAfterWrite(properties.getClientSystemFlagCacheRefreshSeconds(), TimeUnit.SECONDS)
+            .expireAfterWrite(properties.getClientSystemFlagCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build(CacheLoader.asyncReloading(new CacheLoader<Pair<String, String>, Optional<ClientSystemFlag>>() {
+                @Override
+                public Optional<ClientSystemFlag> load(Pair<String, String> clientAndAuditObject) {
+                    return configService.findClientSystemFlag(clientAndAuditObject.getLeft(), clientAndAuditObject.getRight());
+                }
+            }, cacheRefreshExecutor));
+    }
+
+    @Override
+    public List<AssessmentWindow> findAssessmentWindows(String clientName, String assessmentId, long studentId, ExternalSessionConfiguration configuration) {
+        return configService.findAssessmentWindows(clientName, assessmentId, studentId, configuration);
+    }
+
+    @Override
+    public Optional<ClientSystemFlag> findClientSystemFlag(String clientName, String auditObject) {
+        return LoadingCaches.get(clientSystemFlags, key(clientName, auditObject));
+    }
+
+    @Override
+    public List<Accommodation> findAssessmentAccommodationsByAssessmentKey(String clientName, String assessmentKey) {
+        return assessmentAccommodationsCache.get(clientName, assessmentKey).getAccommodations();
+    }
+
+    @Override
+    public AssessmentAccommodations findAssessmentAccommodations(String clientName, String assessmentKey) {
+        return assessmentAccommodationsCache.get(clientName, assessmentKey);
+    }
+
+    @Override
+    public List<Accommodation> findAssessmentAccommodationsByAssessmentId(String clientName, String assessmentId) {
+        return configService.findAssessmentAccommodationsByAssessmentId(clientName, assessmentId);
+    }
+
+    /**
+     * @return the cache of client system flags, shared with the {@link tds.exam.services.impl.CachingAsyncConfigService}
+     */
+    Cache<Pair<String, String>, Optional<ClientSystemFlag>> getCache() {
+        return clientSystemFlags;
+    }
+
+    /**
+     * @return the key of a client's flag in the cache
+     */
+    static Pair<String, String> key(final String clientName, final String auditObject) {
+        // The config service looks the audit object up without regard to case
+        return Pair.of(clientName, auditObject.toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, clientSystemFlags.size(), clientSystemFlags.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        clientSystemFlags.invalidateAll();
+    }
+}
@@ -0,0 +1,92 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.SessionService;
+import tds.session.ExternalSessionConfiguration;
+import tds.session.PauseSessionResponse;
+import tds.session.Session;
+import tds.session.SessionAssessment;
+
+/**
+ * Caches the external session configuration of each client.  The configuration only changes on deploys so an entry
+ * that is due for a refresh keeps being returned while it is reloaded in the background.
+ */
+@Service
+@Primary
+class CachingSessionService implements SessionService, CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "external-session-configurations";
+    private static final long MAXIMUM_CLIENTS = 100;
+
+    private final SessionService sessionService;
+    private final LoadingCache<String, Optional<ExternalSessionConfiguration>> externalSessionConfigurations;
+
+    @Autowired
+    public CachingSessionService(SessionServiceImpl sessionService,
+                                 ExamServiceProperties properties,
+                                 @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        this.sessionService = sessionService;
+        this.externalSessionConfigurations = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_CLIENTS)
+            .refreshAfterWrite(properties.getExternalSessionConfigurationCacheRefreshSeconds(), TimeUnit.SECONDS)
+            .expireAfterWrite(properties.getExternalSessionConfigurationCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build(CacheLoader.asyncReloading(new CacheLoader<String, Optional<ExternalSessionConfiguration>>() {
+                @Override
+                public Optional<ExternalSessionConfiguration> load(String clientName) {
+                    return sessionService.findExternalSessionConfigurationByClientName(clientName);
+                }
+            }, cacheRefreshExecutor));
+    }
+
+    @Override
+    public Optional<Session> findSessionById(UUID sessionId) {
+        return sessionService.findSessionById(sessionId);
+    }
+
+    @Override
+    public Optional<ExternalSessionConfiguration> findExternalSessionConfigurationByClientName(String clientName) {
+        return LoadingCaches.get(externalSessionConfigurations, clientName);
+    }
+
+    @Override
+    public Optional<PauseSessionResponse> pause(UUID sessionId, String newStatus) {
+        return sessionService.pause(sessionId, newStatus);
+    }
+
+    @Override
+    public Optional<SessionAssessment> findSessionAssessment(UUID sessionId, String assessmentKey) {
+        return sessionService.findSessionAssessment(sessionId, assessmentKey);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, externalSessionConfigurations.size(), externalSessionConfigurations.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        externalSessionConfigurations.invalidateAll();
+    }
+}
@@ -0,0 +1,78 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import tds.config.TimeLimitConfiguration;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.TimeLimitConfigurationService;
+
+/**
+ * Caches the time limit configurations keyed by client and assessment.  An assessment without a configuration of its
+ * own is cached as empty so the 404 from the config service is not requested again.  Every hit in the statistics is
+ * a request to the config service that was not made.
+ */
+@Service
+@Primary
+class CachingTimeLimitConfigurationService implements TimeLimitConfigurationService, CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "time-limit-configurations";
+
+    private final LoadingCache<Pair<String, String>, Optional<TimeLimitConfiguration>> timeLimitConfigurations;
+
+    @Autowired
+    public CachingTimeLimitConfigurationService(TimeLimitConfigurationServiceImpl timeLimitConfigurationService,
+                                                ExamServiceProperties properties) {
+        this.timeLimitConfigurations = CacheBuilder.newBuilder()
+            .maximumSize(properties.getTimeLimitConfigurationCacheMaxSize())
+            .expireAfterWrite(properties.getTimeLimitConfigurationCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build(new CacheLoader<Pair<String, String>, Optional<TimeLimitConfiguration>>() {
+                @Override
+                public Optional<TimeLimitConfiguration> load(Pair<String, String> clientAndAssessment) {
+                    return timeLimitConfigurationService.findTimeLimitConfiguration(clientAndAssessment.getLeft(),
+                        clientAndAssessment.getRight());
+                }
+            });
+    }
+
+    @Override
+    public Optional<TimeLimitConfiguration> findTimeLimitConfiguration(String clientName, String assessmentId) {
+        return LoadingCaches.get(timeLimitConfigurations, Pair.of(clientName, assessmentId));
+    }
+
+    /**
+     * @return the cache of configurations, shared with the
+     * {@link tds.exam.services.impl.CachingAsyncTimeLimitConfigurationService}
+     */
+    Cache<Pair<String, String>, Optional<TimeLimitConfiguration>> getCache() {
+        return timeLimitConfigurations;
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, timeLimitConfigurations.size(), timeLimitConfigurations.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        timeLimitConfigurations.invalidateAll();
+    }
+}
@@ -0,0 +1,47 @@
+package tds.exam.services.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Helpers for waiting on the {@link java.util.concurrent.CompletableFuture}s of work started concurrently
+ */
+final class CompletableFutures {
+    private CompletableFutures() {
+    }
+
+    /**
+     * Wait for work that was started concurrently.  Work that failed throws the same exception it would have thrown
+     * had it been called directly.
+     *
+     * @param future the future of the work
+     * @param <T>    the type of the result
+     * @return the result of the work
+     * @throws java.lang.RuntimeException the exception thrown by the work, unwrapped from the
+     *                                    {@link java.util.concurrent.CompletionException}
+     */
+    static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Wait for work that was started concurrently without blocking a thread.  Unlike
+     * {@link java.util.concurrent.CompletableFuture#allOf}, the returned future completes normally once all the work
+     * completed, even when some of it failed, so the results can be checked one after another with
+     * {@link #join(java.util.concurrent.CompletableFuture)}.
+     *
+     * @param futures the futures of the work
+     * @return future completed once all the work completed
+     */
+    static CompletableFuture<Void> allCompleted(final CompletableFuture<?>... futures) {
+        return CompletableFuture.allOf(futures).handle((ignored, failure) -> null);
+    }
+}
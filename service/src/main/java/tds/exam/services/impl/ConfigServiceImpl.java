@@ -16,7 +16,9 @@ import java.util.Optional;
 import tds.config.Accommodation;
 import tds.config.AssessmentWindow;
 import tds.config.ClientSystemFlag;
+import tds.exam.caching.RequestMemoized;
 import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.AssessmentAccommodations;
 import tds.exam.services.ConfigService;
 import tds.session.ExternalSessionConfiguration;
 
@@ -34,6 +36,7 @@ class ConfigServiceImpl implements ConfigService {
         this.examServiceProperties = examServiceProperties;
     }
 
+    @RequestMemoized
     @Override
     public List<AssessmentWindow> findAssessmentWindows(String clientName,
                                                         String assessmentId,
@@ -60,15 +63,13 @@ class ConfigServiceImpl implements ConfigService {
         return responseEntity.getBody();
     }
 
+    @RequestMemoized
     @Override
     public Optional<ClientSystemFlag> findClientSystemFlag(String clientName, String auditObject) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/client-system-flags/%s/%s", examServiceProperties.getConfigUrl(), clientName, auditObject));
-
         Optional<ClientSystemFlag> maybeClientSystemFlag = Optional.empty();
         try {
-            final ClientSystemFlag clientSystemFlag = restTemplate.getForObject(builder.toUriString(), ClientSystemFlag.class);
+            final ClientSystemFlag clientSystemFlag = restTemplate.getForObject(
+                ServiceUrls.clientSystemFlag(examServiceProperties, clientName, auditObject), ClientSystemFlag.class);
             maybeClientSystemFlag = Optional.of(clientSystemFlag);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -79,6 +80,7 @@ class ConfigServiceImpl implements ConfigService {
         return maybeClientSystemFlag;
     }
 
+    @RequestMemoized
     @Override
     public List<Accommodation> findAssessmentAccommodationsByAssessmentKey(final String clientName, final String assessmentKey) {
         UriComponentsBuilder builder =
@@ -92,6 +94,12 @@ class ConfigServiceImpl implements ConfigService {
         return responseEntity.getBody();
     }
 
+    @Override
+    public AssessmentAccommodations findAssessmentAccommodations(final String clientName, final String assessmentKey) {
+        return new AssessmentAccommodations(findAssessmentAccommodationsByAssessmentKey(clientName, assessmentKey));
+    }
+
+    @RequestMemoized
     @Override
     public List<Accommodation> findAssessmentAccommodationsByAssessmentId(String clientName, String assessmentId) {
         UriComponentsBuilder builder =
@@ -16,6 +16,7 @@ import tds.assessment.Assessment;
 import tds.config.Accommodation;
 import tds.exam.Exam;
 import tds.exam.ExamAccommodation;
+import tds.exam.models.AssessmentAccommodations;
 import tds.exam.repositories.ExamAccommodationCommandRepository;
 import tds.exam.repositories.ExamAccommodationQueryRepository;
 import tds.exam.services.ConfigService;
@@ -58,12 +59,11 @@ class ExamAccommodationServiceImpl implements ExamAccommodationService {
 
         // StudentDLL fetches the key accommodations via CommonDLL.TestKeyAccommodations_FN which this call replicates.  The legacy application leverages
         // temporary tables for most of its data structures which is unnecessary in this case so a collection is returned.
-        List<Accommodation> assessmentAccommodations = configService.findAssessmentAccommodationsByAssessmentKey(exam.getClientName(), exam.getAssessmentKey());
+        AssessmentAccommodations assessmentAccommodations = configService.findAssessmentAccommodations(exam.getClientName(), exam.getAssessmentKey());
 
         // StudentDLL line 6645 - the query filters the results of the temporary table fetched above by these two values.
         // It was decided the record usage and report usage values that are also queried are not actually used.
-        List<Accommodation> accommodations = assessmentAccommodations.stream().filter(accommodation ->
-            accommodation.isDefaultAccommodation() && accommodation.getDependsOnToolType() == null).collect(Collectors.toList());
+        List<Accommodation> accommodations = assessmentAccommodations.getDefaultAccommodations();
 
         List<ExamAccommodation> examAccommodations = new ArrayList<>();
         accommodations.forEach(accommodation -> {
@@ -170,7 +170,7 @@ class ExamAccommodationServiceImpl implements ExamAccommodationService {
 
         // CommonDLL line 2593 fetches the key accommodations via CommonDLL.TestKeyAccommodations_FN which this call replicates.  The legacy application leverages
         // temporary tables for most of its data structures which is unnecessary in this case so a collection is returned.
-        List<Accommodation> assessmentAccommodations = configService.findAssessmentAccommodationsByAssessmentKey(exam.getClientName(), exam.getAssessmentKey());
+        AssessmentAccommodations assessmentAccommodations = configService.findAssessmentAccommodations(exam.getClientName(), exam.getAssessmentKey());
 
         /*
         This is the accumulation of many different queries on lines CommonDLL.UpdateOpportunityAccommodations_SP()
@@ -182,12 +182,12 @@ class ExamAccommodationServiceImpl implements ExamAccommodationService {
         4. if the exam is started the accommodation must allow change.
         5. If restoreRts is true then the accommodation must be selectable.
         6. Exam accommodations must be distinct
+
+        The first two are lookups in the indexed accommodations.
          */
-        Set<ExamAccommodation> accommodationsToAdd = assessmentAccommodations.stream()
+        Set<ExamAccommodation> accommodationsToAdd = assessmentAccommodations.findAccommodations(segmentPosition, accommodationCodes).stream()
             .filter(accommodation ->
-                accommodationCodes.contains(accommodation.getCode())
-                    && accommodation.getSegmentPosition() == segmentPosition
-                    && !accommodation.isEntryControl()
+                !accommodation.isEntryControl()
                     && (exam.getDateStarted() == null || accommodation.isAllowChange())
                     && (!restoreRts || accommodation.isSelectable())
             ).map(accommodation -> new ExamAccommodation.Builder()
@@ -1,13 +1,19 @@
 package tds.exam.services.impl;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import tds.assessment.Algorithm;
@@ -15,30 +21,40 @@ import tds.assessment.Assessment;
 import tds.assessment.Form;
 import tds.assessment.Segment;
 import tds.exam.Exam;
+import tds.exam.ExamAccommodation;
 import tds.exam.models.ExamSegment;
 import tds.exam.models.SegmentPoolInfo;
 import tds.exam.repositories.ExamSegmentCommandRepository;
+import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ExamSegmentService;
 import tds.exam.services.FieldTestService;
 import tds.exam.services.FormSelector;
 import tds.exam.services.SegmentPoolService;
 
+import static tds.exam.services.impl.CompletableFutures.join;
+
 @Service
 public class ExamSegmentServiceImpl implements ExamSegmentService {
     private final ExamSegmentCommandRepository commandRepository;
     private final SegmentPoolService segmentPoolService;
     private final FormSelector formSelector;
     private final FieldTestService fieldTestService;
+    private final ExamAccommodationService examAccommodationService;
+    private final Executor segmentPoolExecutor;
 
     @Autowired
     public ExamSegmentServiceImpl(ExamSegmentCommandRepository commandRepository,
                                   SegmentPoolService segmentPoolService,
                                   FormSelector formSelector,
-                                  FieldTestService fieldTestService) {
+                                  FieldTestService fieldTestService,
+                                  ExamAccommodationService examAccommodationService,
+                                  @Qualifier("segmentPoolExecutor") Executor segmentPoolExecutor) {
         this.commandRepository = commandRepository;
         this.segmentPoolService = segmentPoolService;
         this.fieldTestService = fieldTestService;
         this.formSelector = formSelector;
+        this.examAccommodationService = examAccommodationService;
+        this.segmentPoolExecutor = segmentPoolExecutor;
     }
 
     /*
@@ -63,6 +79,9 @@ public class ExamSegmentServiceImpl implements ExamSegmentService {
         //TODO: Check if this is a SIMULATION [4571]
         /* [4589] Skip language retrieval - now part of Exam */
         /* [4623-4636] and [4642-4648] can be skipped as we already have all the segments and assessment data we need */
+        /* Adaptive segment pools do not depend on each other so they are computed up front and concurrently. Only fixed
+           form segments depend on each other, through the form cohort, so they are still selected in segment order. */
+        Map<Segment, CompletableFuture<SegmentPoolInfo>> adaptiveSegmentPools = computeAdaptiveSegmentPools(exam, assessment);
         /* Segment loop starts at [4651] */
         for (Segment segment : assessment.getSegments()) {
             boolean isSatisfied = false;
@@ -100,8 +119,7 @@ public class ExamSegmentServiceImpl implements ExamSegmentService {
 
                 poolCount = selectedForm.getLength();
             } else { // Algorithm is adaptive2
-                segmentPoolInfo = segmentPoolService.computeSegmentPool(exam.getId(),
-                    segment, assessment.getItemConstraints(), exam.getLanguageCode());
+                segmentPoolInfo = join(adaptiveSegmentPools.get(segment));
                 itemPoolIds = segmentPoolInfo.getItemPool().stream()
                     .map(item -> item.getId())
                     .collect(Collectors.toSet());
@@ -148,4 +166,26 @@ public class ExamSegmentServiceImpl implements ExamSegmentService {
 
         return totalItems;
     }
+
+    private Map<Segment, CompletableFuture<SegmentPoolInfo>> computeAdaptiveSegmentPools(final Exam exam, final Assessment assessment) {
+        List<Segment> adaptiveSegments = assessment.getSegments().stream()
+            .filter(segment -> Algorithm.FIXED_FORM != segment.getSelectionAlgorithm())
+            .collect(Collectors.toList());
+        Map<Segment, CompletableFuture<SegmentPoolInfo>> adaptiveSegmentPools = new IdentityHashMap<>();
+        if (adaptiveSegments.isEmpty()) {
+            return adaptiveSegmentPools;
+        }
+
+        // Every adaptive segment pool is selected using the exam's accommodations so they are read once
+        List<ExamAccommodation> examAccommodations = examAccommodationService.findAllAccommodations(exam.getId());
+        // A single adaptive segment has nothing to overlap with so it is computed on the requesting thread
+        Executor executor = adaptiveSegments.size() == 1 ? MoreExecutors.directExecutor() : segmentPoolExecutor;
+        for (Segment segment : adaptiveSegments) {
+            adaptiveSegmentPools.put(segment, CompletableFuture.supplyAsync(() ->
+                segmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
+                    exam.getLanguageCode()), executor));
+        }
+
+        return adaptiveSegmentPools;
+    }
 }
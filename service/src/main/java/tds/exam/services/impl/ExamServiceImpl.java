@@ -3,6 +3,7 @@ package tds.exam.services.impl;
 import org.apache.commons.lang3.StringUtils;
 import org.joda.time.Minutes;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -14,6 +15,8 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -32,13 +35,18 @@ import tds.exam.ExamConfiguration;
 import tds.exam.ExamStatusCode;
 import tds.exam.ExamStatusStage;
 import tds.exam.OpenExamRequest;
+import tds.exam.configuration.concurrent.ExecutorConfiguration;
 import tds.exam.error.ValidationErrorCode;
 import tds.exam.models.Ability;
 import tds.exam.repositories.ExamCommandRepository;
 import tds.exam.repositories.ExamQueryRepository;
 import tds.exam.repositories.ExamStatusQueryRepository;
 import tds.exam.repositories.HistoryQueryRepository;
-import tds.exam.services.AssessmentService;
+import tds.exam.services.AsyncAssessmentService;
+import tds.exam.services.AsyncConfigService;
+import tds.exam.services.AsyncSessionService;
+import tds.exam.services.AsyncStudentService;
+import tds.exam.services.AsyncTimeLimitConfigurationService;
 import tds.exam.services.ConfigService;
 import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ExamItemService;
@@ -50,9 +58,11 @@ import tds.exam.services.TimeLimitConfigurationService;
 import tds.session.ExternalSessionConfiguration;
 import tds.session.Session;
 import tds.student.RtsStudentPackageAttribute;
+import tds.student.Student;
 
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.util.Comparator.comparing;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static tds.common.time.JodaTimeConverter.convertJodaInstant;
 import static tds.config.ClientSystemFlag.ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE;
 import static tds.config.ClientSystemFlag.RESTORE_ACCOMMODATIONS_TYPE;
@@ -60,6 +70,8 @@ import static tds.exam.ExamStatusCode.STATUS_PENDING;
 import static tds.exam.ExamStatusCode.STATUS_SUSPENDED;
 import static tds.exam.error.ValidationErrorCode.ANONYMOUS_STUDENT_NOT_ALLOWED;
 import static tds.exam.error.ValidationErrorCode.NO_OPEN_ASSESSMENT_WINDOW;
+import static tds.exam.services.impl.CompletableFutures.allCompleted;
+import static tds.exam.services.impl.CompletableFutures.join;
 import static tds.student.RtsStudentPackageAttribute.ACCOMMODATIONS;
 import static tds.student.RtsStudentPackageAttribute.ENTITY_NAME;
 import static tds.student.RtsStudentPackageAttribute.EXTERNAL_ID;
@@ -75,11 +87,16 @@ class ExamServiceImpl implements ExamService {
     private final SessionService sessionService;
     private final StudentService studentService;
     private final ExamSegmentService examSegmentService;
-    private final AssessmentService assessmentService;
     private final TimeLimitConfigurationService timeLimitConfigurationService;
     private final ConfigService configService;
     private final ExamStatusQueryRepository examStatusQueryRepository;
     private final ExamAccommodationService examAccommodationService;
+    private final AsyncSessionService asyncSessionService;
+    private final AsyncStudentService asyncStudentService;
+    private final AsyncAssessmentService asyncAssessmentService;
+    private final AsyncConfigService asyncConfigService;
+    private final AsyncTimeLimitConfigurationService asyncTimeLimitConfigurationService;
+    private final Executor upstreamExecutor;
 
     private final Set<String> statusesThatCanTransitionToPaused;
 
@@ -89,25 +106,35 @@ class ExamServiceImpl implements ExamService {
                            SessionService sessionService,
                            StudentService studentService,
                            ExamSegmentService examSegmentService,
-                           AssessmentService assessmentService,
                            TimeLimitConfigurationService timeLimitConfigurationService,
                            ConfigService configService,
                            ExamCommandRepository examCommandRepository,
                            ExamItemService examItemService,
                            ExamStatusQueryRepository examStatusQueryRepository,
-                           ExamAccommodationService examAccommodationService) {
+                           ExamAccommodationService examAccommodationService,
+                           AsyncSessionService asyncSessionService,
+                           AsyncStudentService asyncStudentService,
+                           AsyncAssessmentService asyncAssessmentService,
+                           AsyncConfigService asyncConfigService,
+                           AsyncTimeLimitConfigurationService asyncTimeLimitConfigurationService,
+                           @Qualifier("upstreamExecutor") Executor upstreamExecutor) {
         this.examQueryRepository = examQueryRepository;
         this.historyQueryRepository = historyQueryRepository;
         this.sessionService = sessionService;
         this.studentService = studentService;
         this.examSegmentService = examSegmentService;
-        this.assessmentService = assessmentService;
         this.timeLimitConfigurationService = timeLimitConfigurationService;
         this.configService = configService;
         this.examCommandRepository = examCommandRepository;
         this.examItemService = examItemService;
         this.examStatusQueryRepository = examStatusQueryRepository;
         this.examAccommodationService = examAccommodationService;
+        this.asyncSessionService = asyncSessionService;
+        this.asyncStudentService = asyncStudentService;
+        this.asyncAssessmentService = asyncAssessmentService;
+        this.asyncConfigService = asyncConfigService;
+        this.asyncTimeLimitConfigurationService = asyncTimeLimitConfigurationService;
+        this.upstreamExecutor = upstreamExecutor;
 
         // From CommondDLL._IsValidStatusTransition_FN(): a collection of all the statuses that can transition to
         // "paused".  That is, each of these status values has a nested switch statement that contains the "paused"
@@ -127,10 +154,52 @@ class ExamServiceImpl implements ExamService {
     }
 
     @Override
-    public Response<Exam> openExam(OpenExamRequest openExamRequest) {
+    public CompletableFuture<Response<Exam>> openExam(OpenExamRequest openExamRequest) {
+        //The lookups below do not depend on each other so they are requested concurrently up front.  None of them holds
+        //a thread while waiting for a response: the session, student, assessment and guest access flag are requested
+        //through the non-blocking clients, which answer from the caches when they can, and the external configuration
+        //is served from its cache on the executor.
+        final Executor requestExecutor = ExecutorConfiguration.inCurrentRequest(upstreamExecutor);
+        CompletableFuture<Optional<ExternalSessionConfiguration>> externalSessionConfigurationFuture = supplyAsync(() ->
+            sessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName()), requestExecutor);
+        CompletableFuture<Optional<Session>> sessionFuture = asyncSessionService.findSessionById(openExamRequest.getSessionId());
+        CompletableFuture<Optional<Student>> studentFuture = openExamRequest.isGuestStudent()
+            ? CompletableFuture.completedFuture(Optional.empty())
+            : asyncStudentService.getStudentById(openExamRequest.getStudentId());
+        CompletableFuture<Optional<ClientSystemFlag>> allowGuestAccessFlagFuture = openExamRequest.isGuestStudent()
+            ? asyncConfigService.findClientSystemFlag(openExamRequest.getClientName(), ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE)
+            : CompletableFuture.completedFuture(Optional.empty());
+        CompletableFuture<Optional<Assessment>> assessmentFuture =
+            asyncAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey());
+        //Previous exam is retrieved in lines 5492 - 5530 and 5605 - 5645 in StudentDLL
+        CompletableFuture<Optional<Exam>> previousExamFuture = assessmentFuture.thenApplyAsync(maybeFoundAssessment ->
+            maybeFoundAssessment.isPresent()
+                ? examQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), maybeFoundAssessment.get().getAssessmentId(), openExamRequest.getClientName())
+                : Optional.<Exam>empty(), requestExecutor);
+
+        //The exam is opened on the executor once every lookup has completed, whether or not it succeeded.  The results
+        //are still validated one after another in the order of the legacy code so the same error is returned for a
+        //request, and no lookup is left running once the response is sent.
+        return allCompleted(externalSessionConfigurationFuture, sessionFuture, studentFuture, allowGuestAccessFlagFuture, previousExamFuture)
+            .thenApplyAsync(ignored -> openExam(openExamRequest,
+                externalSessionConfigurationFuture,
+                sessionFuture,
+                studentFuture,
+                allowGuestAccessFlagFuture,
+                assessmentFuture,
+                previousExamFuture), requestExecutor);
+    }
+
+    private Response<Exam> openExam(OpenExamRequest openExamRequest,
+                                    CompletableFuture<Optional<ExternalSessionConfiguration>> externalSessionConfigurationFuture,
+                                    CompletableFuture<Optional<Session>> sessionFuture,
+                                    CompletableFuture<Optional<Student>> studentFuture,
+                                    CompletableFuture<Optional<ClientSystemFlag>> allowGuestAccessFlagFuture,
+                                    CompletableFuture<Optional<Assessment>> assessmentFuture,
+                                    CompletableFuture<Optional<Exam>> previousExamFuture) {
         //Line 5602 in StudentDLL.  This has been moved to earlier in the flow than the original because it is used throughout.  The original
         //fetches the external configuration multiple times in the different layers.
-        Optional<ExternalSessionConfiguration> maybeExternalSessionConfiguration = sessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName());
+        Optional<ExternalSessionConfiguration> maybeExternalSessionConfiguration = join(externalSessionConfigurationFuture);
         if (!maybeExternalSessionConfiguration.isPresent()) {
             throw new IllegalStateException(String.format("External Session Configuration could not be found for client name %s", openExamRequest.getClientName()));
         }
@@ -139,7 +208,7 @@ class ExamServiceImpl implements ExamService {
 
         //Different parts of the session are queried throughout the legacy code.  Instead we fetch the entire session object in one call and pass
         //the reference to those parts that require it.
-        Optional<Session> maybeSession = sessionService.findSessionById(openExamRequest.getSessionId());
+        Optional<Session> maybeSession = join(sessionFuture);
         if (!maybeSession.isPresent()) {
             throw new IllegalArgumentException(String.format("Could not find session for id %s", openExamRequest.getSessionId()));
         }
@@ -152,26 +221,24 @@ class ExamServiceImpl implements ExamService {
         }
 
         if (!openExamRequest.isGuestStudent()) {
-            studentService.getStudentById(openExamRequest.getStudentId()).orElseThrow((Supplier<RuntimeException>) ()
+            join(studentFuture).orElseThrow((Supplier<RuntimeException>) ()
                 -> new IllegalArgumentException(String.format("Could not find student for id %s", openExamRequest.getStudentId()))
             );
         } else {
             //OpenTestServiceImpl lines 103 - 104
-            if (!allowsGuestStudent(openExamRequest.getClientName(), externalSessionConfiguration)) {
+            if (!allowsGuestStudent(externalSessionConfiguration, join(allowGuestAccessFlagFuture))) {
                 return new Response<Exam>(new ValidationError(ANONYMOUS_STUDENT_NOT_ALLOWED, String.format("Anonymous students not allowed for this client %s", openExamRequest.getClientName())));
             }
         }
 
-        Optional<Assessment> maybeAssessment = assessmentService.findAssessment(openExamRequest.getClientName(),
-            openExamRequest.getAssessmentKey());
+        Optional<Assessment> maybeAssessment = join(assessmentFuture);
         if (!maybeAssessment.isPresent()) {
             throw new IllegalArgumentException(String.format("Assessment information could not be found for assessment key %s", openExamRequest.getAssessmentKey()));
         }
 
         Assessment assessment = maybeAssessment.get();
 
-        //Previous exam is retrieved in lines 5492 - 5530 and 5605 - 5645 in StudentDLL
-        Optional<Exam> maybePreviousExam = examQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName());
+        Optional<Exam> maybePreviousExam = join(previousExamFuture);
 
         boolean canOpenPreviousExam = false;
         if (maybePreviousExam.isPresent()) {
@@ -289,6 +356,21 @@ class ExamServiceImpl implements ExamService {
 
     @Override
     public Optional<ValidationError> verifyAccess(ApprovalRequest approvalRequest, Exam exam) {
+        return verifyAccess(approvalRequest, exam,
+            () -> sessionService.findExternalSessionConfigurationByClientName(approvalRequest.getClientName()),
+            () -> sessionService.findSessionById(approvalRequest.getSessionId()),
+            () -> timeLimitConfigurationService.findTimeLimitConfiguration(approvalRequest.getClientName(), exam.getAssessmentId()));
+    }
+
+    /*
+     * The suppliers provide the dependencies of the rules so a caller that already requested them can pass them in.
+     * Each supplier is only asked for its value when a rule needs it.
+     */
+    private Optional<ValidationError> verifyAccess(ApprovalRequest approvalRequest,
+                                                   Exam exam,
+                                                   Supplier<Optional<ExternalSessionConfiguration>> externalSessionConfigurationSupplier,
+                                                   Supplier<Optional<Session>> sessionSupplier,
+                                                   Supplier<Optional<TimeLimitConfiguration>> timeLimitConfigurationSupplier) {
         // RULE:  The browser key for the approval request must match the browser key of the exam.
         if (!exam.getBrowserId().equals(approvalRequest.getBrowserId())) {
             return Optional.of(new ValidationError(ValidationErrorCode.EXAM_APPROVAL_BROWSER_ID_MISMATCH, "Access violation: System access denied"));
@@ -300,7 +382,7 @@ class ExamServiceImpl implements ExamService {
         }
 
         ExternalSessionConfiguration externalSessionConfig =
-            sessionService.findExternalSessionConfigurationByClientName(approvalRequest.getClientName())
+            externalSessionConfigurationSupplier.get()
                 .orElseThrow(() -> new IllegalStateException(String.format("External Session Configuration could not be found for client name %s", approvalRequest.getClientName())));
 
         // RULE:  If the environment is set to "simulation" or "development", there is no need to check anything else.
@@ -309,7 +391,7 @@ class ExamServiceImpl implements ExamService {
             return Optional.empty();
         }
 
-        Session session = sessionService.findSessionById(approvalRequest.getSessionId())
+        Session session = sessionSupplier.get()
             .orElseThrow(() -> new IllegalArgumentException("Could not find session for id " + approvalRequest.getSessionId()));
 
         // RULE:  the exam's session must be open.
@@ -325,7 +407,7 @@ class ExamServiceImpl implements ExamService {
 
         // RULE:  Student should not be able to start an exam if the TA check-in window has expired.
         TimeLimitConfiguration timeLimitConfig =
-            timeLimitConfigurationService.findTimeLimitConfiguration(approvalRequest.getClientName(), exam.getAssessmentId())
+            timeLimitConfigurationSupplier.get()
                 .orElseThrow(() -> new IllegalArgumentException(String.format("Could not find time limit configuration for client name %s and assessment id %s", approvalRequest.getClientName(), exam.getAssessmentId())));
 
         Instant sessionDateVisited = Instant.ofEpochMilli(session.getDateVisited().getMillis());
@@ -340,25 +422,53 @@ class ExamServiceImpl implements ExamService {
     }
 
     @Override
-    public Response<ExamConfiguration> startExam(final UUID examId) {
-        ExamConfiguration examConfig;
+    public CompletableFuture<Response<ExamConfiguration>> startExam(final UUID examId) {
         Optional<Exam> maybeExam = examQueryRepository.getExamById(examId);
         if (!maybeExam.isPresent()) {
-            return new Response<ExamConfiguration>(new ValidationError(
+            return CompletableFuture.completedFuture(new Response<ExamConfiguration>(new ValidationError(
                 ExamStatusCode.STATUS_FAILED, String.format("No exam found for id %s", examId)
-            ));
+            )));
         }
         Exam exam = maybeExam.get();
 
         /* TestOpportunityServiceImpl [155] No need to go any further, so moving before service calls */
         if (!exam.getStatus().getCode().equalsIgnoreCase(ExamStatusCode.STATUS_APPROVED)) {
-            return new Response<ExamConfiguration>(new ValidationError(
+            return CompletableFuture.completedFuture(new Response<ExamConfiguration>(new ValidationError(
                 ExamStatusCode.STATUS_FAILED, String.format("Cannot start exam %s: Exam was not approved.", examId)
-            ));
-        }
+            )));
+        }
+
+        //Every dependency of starting the exam is requested once and concurrently, without holding a thread while
+        //waiting for the responses.  verifyAccess is handed the results instead of requesting the external
+        //configuration, session and time limit configuration again.
+        final Executor requestExecutor = ExecutorConfiguration.inCurrentRequest(upstreamExecutor);
+        CompletableFuture<Optional<Session>> sessionFuture = asyncSessionService.findSessionById(exam.getSessionId());
+        CompletableFuture<Optional<ExternalSessionConfiguration>> externalSessionConfigurationFuture = supplyAsync(() ->
+            sessionService.findExternalSessionConfigurationByClientName(exam.getClientName()), requestExecutor);
+        CompletableFuture<Optional<Assessment>> assessmentFuture =
+            asyncAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey());
+        CompletableFuture<Optional<TimeLimitConfiguration>> timeLimitConfigurationFuture =
+            asyncTimeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), exam.getAssessmentId());
+
+        //As in openExam, the exam is started on the executor once every lookup has completed
+        return allCompleted(sessionFuture, externalSessionConfigurationFuture, assessmentFuture, timeLimitConfigurationFuture)
+            .thenApplyAsync(ignored -> startExam(exam,
+                sessionFuture,
+                externalSessionConfigurationFuture,
+                assessmentFuture,
+                timeLimitConfigurationFuture), requestExecutor);
+    }
+
+    private Response<ExamConfiguration> startExam(Exam exam,
+                                                  CompletableFuture<Optional<Session>> sessionFuture,
+                                                  CompletableFuture<Optional<ExternalSessionConfiguration>> externalSessionConfigurationFuture,
+                                                  CompletableFuture<Optional<Assessment>> assessmentFuture,
+                                                  CompletableFuture<Optional<TimeLimitConfiguration>> timeLimitConfigurationFuture) {
+        final UUID examId = exam.getId();
+        ExamConfiguration examConfig;
 
         /* TestOpportunityServiceImpl [131] */
-        Optional<Session> maybeSession = sessionService.findSessionById(exam.getSessionId());
+        Optional<Session> maybeSession = join(sessionFuture);
         if (!maybeSession.isPresent()) {
             return new Response<ExamConfiguration>(new ValidationError(
                 ExamStatusCode.STATUS_FAILED, String.format("No session found for session id %s", exam.getSessionId())));
@@ -367,12 +477,15 @@ class ExamServiceImpl implements ExamService {
 
         /* StudentDLL [5269] / TestOpportunityServiceImpl [137] */
         Optional<ValidationError> maybeAccessViolation = verifyAccess(new ApprovalRequest(examId, session.getId(),
-            exam.getBrowserId(), exam.getClientName()), exam);
+            exam.getBrowserId(), exam.getClientName()), exam,
+            () -> join(externalSessionConfigurationFuture),
+            () -> maybeSession,
+            () -> join(timeLimitConfigurationFuture));
         if (maybeAccessViolation.isPresent()) {
             return new Response<ExamConfiguration>(maybeAccessViolation.get());
         }
         /* TestOpportunityServiceImpl [147] */
-        Optional<Assessment> maybeAssessment = assessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey());
+        Optional<Assessment> maybeAssessment = join(assessmentFuture);
         if (!maybeAssessment.isPresent()) {
             return new Response<ExamConfiguration>(new ValidationError(
                 ExamStatusCode.STATUS_FAILED, String.format("No assessment found for assessment key '%s'.", exam.getAssessmentKey())
@@ -380,8 +493,12 @@ class ExamServiceImpl implements ExamService {
         }
         Assessment assessment = maybeAssessment.get();
 
+        //The exam's assessment id is copied from the assessment so the configuration requested above is normally the one needed
+        Optional<TimeLimitConfiguration> maybeTimeLimitConfiguration = assessment.getAssessmentId().equals(exam.getAssessmentId())
+            ? join(timeLimitConfigurationFuture)
+            : timeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId());
         TimeLimitConfiguration timeLimitConfiguration =
-            timeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId())
+            maybeTimeLimitConfiguration
                 .orElseThrow(() ->
                     new IllegalStateException(String.format("No time limit configurations found for clientName '%s' and assessment id '%s'.",
                         exam.getClientName(), assessment.getAssessmentId())));
@@ -734,14 +851,12 @@ class ExamServiceImpl implements ExamService {
         return Optional.empty();
     }
 
-    //Should have long term cache
-    private boolean allowsGuestStudent(String clientName, ExternalSessionConfiguration externalSessionConfiguration) {
+    private boolean allowsGuestStudent(ExternalSessionConfiguration externalSessionConfiguration,
+                                       Optional<ClientSystemFlag> maybeAllowGuestAccessFlag) {
         if (externalSessionConfiguration.isInSimulationEnvironment()) {
             return true;
         }
 
-        Optional<ClientSystemFlag> maybeAllowGuestAccessFlag = configService.findClientSystemFlag(clientName, ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE);
-
         return maybeAllowGuestAccessFlag.isPresent() && maybeAllowGuestAccessFlag.get().isEnabled();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import tds.assessment.Segment;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.ItemPropertyIndex;
+
+/**
+ * Caches the {@link tds.exam.models.ItemPropertyIndex} of each segment and language keyed by the
+ * {@link tds.assessment.Segment} instance and language.  Entries expire with the cached assessments.  Once the
+ * assessment is loaded again its segments are new instances, so their indexes are built again and the indexes of the
+ * old instances are left to expire.  Concurrent lookups of an index that is being built wait for it.
+ */
+@Component
+class ItemPropertyIndexCache implements CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "item-property-indexes";
+
+    private final Cache<ItemPropertyIndexKey, ItemPropertyIndex> itemPropertyIndexes;
+
+    @Autowired
+    ItemPropertyIndexCache(ExamServiceProperties properties) {
+        this.itemPropertyIndexes = CacheBuilder.newBuilder()
+            .maximumSize(properties.getItemPropertyIndexCacheMaxSize())
+            .expireAfterWrite(properties.getAssessmentCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Find the index of the segment's items in the language, building it when it is not cached
+     *
+     * @param segment      the {@link tds.assessment.Segment} whose items are indexed
+     * @param languageCode the language of the items
+     * @return the {@link tds.exam.models.ItemPropertyIndex} of the segment's items in the language
+     */
+    ItemPropertyIndex get(Segment segment, String languageCode) {
+        return LoadingCaches.get(itemPropertyIndexes, new ItemPropertyIndexKey(segment, languageCode),
+            () -> new ItemPropertyIndex(segment.getItems(languageCode)));
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, itemPropertyIndexes.size(), itemPropertyIndexes.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        itemPropertyIndexes.invalidateAll();
+    }
+
+    /**
+     * Compares the segment by identity so an index is never shared between two loads of an assessment
+     */
+    private static class ItemPropertyIndexKey {
+        private final Segment segment;
+        private final String languageCode;
+
+        private ItemPropertyIndexKey(final Segment segment, final String languageCode) {
+            this.segment = segment;
+            this.languageCode = languageCode;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final ItemPropertyIndexKey that = (ItemPropertyIndexKey) o;
+            return segment == that.segment && Objects.equals(languageCode, that.languageCode);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(segment), languageCode);
+        }
+    }
+}
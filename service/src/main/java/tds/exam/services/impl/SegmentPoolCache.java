@@ -0,0 +1,112 @@
+package tds.exam.services.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import tds.assessment.Segment;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.caching.LoadingCaches;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.SegmentPoolInfo;
+
+/**
+ * Caches the {@link tds.exam.models.SegmentPoolInfo} of a segment keyed by the {@link tds.assessment.Segment} instance,
+ * language and the accommodations affecting item selection.  Most students taking an assessment share the same
+ * accommodations so they share the same pool.
+ * <p>
+ * Entries expire with the cached assessments.  Once the assessment is loaded again its segments are new instances, so
+ * their pools are computed again and the pools of the old instances are left to expire.  Concurrent lookups of a pool
+ * that is being computed wait for it rather than computing it again.
+ * </p>
+ */
+@Component
+class SegmentPoolCache implements CacheStatisticsProvider, EvictableCache {
+    private static final String CACHE_NAME = "segment-pools";
+
+    private final Cache<SegmentPoolKey, SegmentPoolInfo> segmentPools;
+
+    @Autowired
+    SegmentPoolCache(ExamServiceProperties properties) {
+        this.segmentPools = CacheBuilder.newBuilder()
+            .maximumSize(properties.getSegmentPoolCacheMaxSize())
+            .expireAfterWrite(properties.getAssessmentCacheExpireSeconds(), TimeUnit.SECONDS)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Find the pool of the segment for the accommodations, computing it when it is not cached
+     *
+     * @param segment                the {@link tds.assessment.Segment} the pool is selected from
+     * @param languageCode           the language of the exam
+     * @param accommodationSignature the type and code of the exam's accommodations that match an item constraint
+     * @param computeSegmentPool     computes the pool when it is not cached
+     * @return the {@link tds.exam.models.SegmentPoolInfo} shared by the exams with the same accommodations
+     */
+    SegmentPoolInfo get(final Segment segment,
+                        final String languageCode,
+                        final Set<Pair<String, String>> accommodationSignature,
+                        final Supplier<SegmentPoolInfo> computeSegmentPool) {
+        final SegmentPoolKey key = new SegmentPoolKey(segment, languageCode, accommodationSignature);
+        return LoadingCaches.get(segmentPools, key, computeSegmentPool::get);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        return new CacheStatistics(CACHE_NAME, segmentPools.size(), segmentPools.stats());
+    }
+
+    @Override
+    public String getCacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evictAll() {
+        segmentPools.invalidateAll();
+    }
+
+    /**
+     * Compares the segment by identity so a pool is never shared between two loads of an assessment
+     */
+    private static class SegmentPoolKey {
+        private final Segment segment;
+        private final String languageCode;
+        private final Set<Pair<String, String>> accommodationSignature;
+
+        private SegmentPoolKey(final Segment segment,
+                               final String languageCode,
+                               final Set<Pair<String, String>> accommodationSignature) {
+            this.segment = segment;
+            this.languageCode = languageCode;
+            this.accommodationSignature = ImmutableSet.copyOf(accommodationSignature);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final SegmentPoolKey that = (SegmentPoolKey) o;
+            return segment == that.segment &&
+                Objects.equals(languageCode, that.languageCode) &&
+                accommodationSignature.equals(that.accommodationSignature);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(segment), languageCode, accommodationSignature);
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package tds.exam.services.impl;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import tds.assessment.Item;
 import tds.assessment.ItemConstraint;
 import tds.assessment.Segment;
 import tds.assessment.Strand;
+import tds.exam.ExamAccommodation;
 import tds.exam.models.SegmentPoolInfo;
+import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ItemPoolService;
 import tds.exam.services.SegmentPoolService;
 
@@ -24,53 +28,65 @@ import tds.exam.services.SegmentPoolService;
 public class SegmentPoolServiceImpl implements SegmentPoolService {
     private static final Logger LOG = LoggerFactory.getLogger(SegmentPoolServiceImpl.class);
     private final ItemPoolService itemPoolService;
+    private final ExamAccommodationService examAccommodationService;
+    private final SegmentPoolCache segmentPoolCache;
 
     @Autowired
-    public SegmentPoolServiceImpl(ItemPoolService itemPoolService) {
+    public SegmentPoolServiceImpl(ItemPoolService itemPoolService,
+                                  ExamAccommodationService examAccommodationService,
+                                  SegmentPoolCache segmentPoolCache) {
         this.itemPoolService = itemPoolService;
+        this.examAccommodationService = examAccommodationService;
+        this.segmentPoolCache = segmentPoolCache;
     }
 
     @Override
     public SegmentPoolInfo computeSegmentPool(final UUID examId, final Segment segment,
                                               final List<ItemConstraint> itemConstraints, final String languageCode) {
+        return computeSegmentPool(examAccommodationService.findAllAccommodations(examId), segment, itemConstraints, languageCode);
+    }
+
+    @Override
+    public SegmentPoolInfo computeSegmentPool(final List<ExamAccommodation> examAccommodations, final Segment segment,
+                                              final List<ItemConstraint> itemConstraints, final String languageCode) {
+        // Only the accommodations matching an item constraint affect which items are selected
+        Set<Pair<String, String>> constrainedProperties = itemConstraints.stream()
+            .map(itemConstraint -> Pair.of(itemConstraint.getPropertyName(), itemConstraint.getPropertyValue()))
+            .collect(Collectors.toSet());
+        Set<Pair<String, String>> accommodationSignature = examAccommodations.stream()
+            .map(accommodation -> Pair.of(accommodation.getType(), accommodation.getCode()))
+            .filter(constrainedProperties::contains)
+            .collect(Collectors.toSet());
+
+        return segmentPoolCache.get(segment, languageCode, accommodationSignature,
+            () -> computeSegmentPoolInfo(examAccommodations, segment, itemConstraints, languageCode));
+    }
+
+    private SegmentPoolInfo computeSegmentPoolInfo(final List<ExamAccommodation> examAccommodations, final Segment segment,
+                                                   final List<ItemConstraint> itemConstraints, final String languageCode) {
         // Get the list of eligible items based on constraints and exam accommodations
-        Set<Item> itemPool = itemPoolService.getItemPool(examId, itemConstraints, segment.getItems(languageCode));
+        Set<Item> itemPool = itemPoolService.getItemPool(examAccommodations, itemConstraints, segment, languageCode);
         /* getItemPool selects the items that are eligible for the segment pool we are constructing.
            In legacy code, we can skip a lot of the temp-table initialization logic because of this */
-        Set<Strand> strands = segment.getStrands();
-        int shortfall = 0;
-        int strandCount = 0;
-        // This map wil be used to cache values for strandcounts
-        Map<String, Integer> strandCountMap = new HashMap<>();
+        // Number the strands with an adaptive cut by name.  Items are matched to the first such strand with their strand name.
+        List<Strand> adaptiveStrands = new ArrayList<>();
+        Map<String, Integer> strandOrdinalsByName = new HashMap<>();
+        for (Strand strand : segment.getStrands()) {
+            if (strand.getAdaptiveCut() != null && !strandOrdinalsByName.containsKey(strand.getName())) {
+                strandOrdinalsByName.put(strand.getName(), adaptiveStrands.size());
+                adaptiveStrands.add(strand);
+            }
+        }
 
+        // In a single pass, count the pool items of each strand and the (non-field test) pool items of each strand
+        int[] itemCounts = new int[adaptiveStrands.size()];
+        int[] poolCounts = new int[adaptiveStrands.size()];
         for (Item item : itemPool) {
-            // Find items with matching strands and non-null adaptiveCut value
-            Optional<Strand> maybeItemStrand = strands.stream()
-                    .filter(strand ->
-                            strand.getName().equals(item.getStrand()) &&
-                            strand.getAdaptiveCut() != null)
-                    .findFirst();
-
-            if (maybeItemStrand.isPresent()) {
-                Strand itemStrand = maybeItemStrand.get();
-                // Get the count of (non-field test) items that have the same strand value and cache it
-                int poolCount;
-
-                if (strandCountMap.containsKey(itemStrand.getName())) {
-                    poolCount = strandCountMap.get(itemStrand.getName());
-                } else {
-                    poolCount = (int) itemPool.stream()
-                        .filter(innerItem ->
-                            !innerItem.isFieldTest() &&
-                            innerItem.getStrand().equals(itemStrand.getName()))
-                        .count();
-                    strandCountMap.put(itemStrand.getName(), poolCount);
-                }
-
-                strandCount += poolCount;
-
-                if (poolCount < itemStrand.getMinItems()) {
-                    shortfall += (itemStrand.getMinItems() - poolCount);
+            Integer strandOrdinal = strandOrdinalsByName.get(item.getStrand());
+            if (strandOrdinal != null) {
+                itemCounts[strandOrdinal]++;
+                if (!item.isFieldTest()) {
+                    poolCounts[strandOrdinal]++;
                 }
             } else {
                 LOG.warn("No strand match for item with id '{}' and strand '{}'. Unable to add to segment pool computation",
@@ -78,6 +94,19 @@ public class SegmentPoolServiceImpl implements SegmentPoolService {
             }
         }
 
+        // Every pool item of a strand adds the strand's pool count, and its shortfall against the strand's minimum
+        int shortfall = 0;
+        int strandCount = 0;
+        for (int strandOrdinal = 0; strandOrdinal < adaptiveStrands.size(); strandOrdinal++) {
+            Strand strand = adaptiveStrands.get(strandOrdinal);
+            int poolCount = poolCounts[strandOrdinal];
+            strandCount += itemCounts[strandOrdinal] * poolCount;
+
+            if (poolCount < strand.getMinItems()) {
+                shortfall += itemCounts[strandOrdinal] * (strand.getMinItems() - poolCount);
+            }
+        }
+
         /* [2887,2914]: sessionKey is null only when we are not in simulation mode. See line 4622.
             TODO: Skip the conditional branch of code [2914-2938] until simulation mode is implemented  */
 
@@ -0,0 +1,74 @@
+package tds.exam.services.impl;
+
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.UUID;
+
+import tds.exam.configuration.ExamServiceProperties;
+
+/**
+ * Builds the urls of the other services' endpoints shared by the blocking and non-blocking clients
+ */
+final class ServiceUrls {
+    private ServiceUrls() {
+    }
+
+    static String session(final ExamServiceProperties properties, final UUID sessionId) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s", properties.getSessionUrl(), sessionId))
+            .toUriString();
+    }
+
+    static String externalSessionConfiguration(final ExamServiceProperties properties, final String clientName) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/external-config/%s", properties.getSessionUrl(), clientName))
+            .toUriString();
+    }
+
+    static String pauseSession(final ExamServiceProperties properties, final UUID sessionId) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s/pause", properties.getSessionUrl(), sessionId))
+            .toUriString();
+    }
+
+    static String sessionAssessment(final ExamServiceProperties properties, final UUID sessionId, final String assessmentKey) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s/assessment/%s", properties.getSessionUrl(), sessionId, assessmentKey))
+            .toUriString();
+    }
+
+    static String student(final ExamServiceProperties properties, final long studentId) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s", properties.getStudentUrl(), studentId))
+            .toUriString();
+    }
+
+    static String studentPackageAttributes(final ExamServiceProperties properties, final long studentId,
+                                           final String clientName, final String... attributeNames) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s/rts/%s/attributes=%s",
+                properties.getStudentUrl(),
+                studentId,
+                clientName,
+                String.join(",", (CharSequence[]) attributeNames)))
+            .toUriString();
+    }
+
+    static String assessment(final ExamServiceProperties properties, final String clientName, final String assessmentKey) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s/assessments/%s", properties.getAssessmentUrl(), clientName, assessmentKey))
+            .toUriString();
+    }
+
+    static String timeLimitConfiguration(final ExamServiceProperties properties, final String clientName, final String assessmentId) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/%s/%s", properties.getConfigUrl(), clientName, assessmentId))
+            .toUriString();
+    }
+
+    static String clientSystemFlag(final ExamServiceProperties properties, final String clientName, final String auditObject) {
+        return UriComponentsBuilder
+            .fromHttpUrl(String.format("%s/client-system-flags/%s/%s", properties.getConfigUrl(), clientName, auditObject))
+            .toUriString();
+    }
+}
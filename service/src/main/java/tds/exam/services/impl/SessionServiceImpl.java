@@ -5,11 +5,11 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.Optional;
 import java.util.UUID;
 
+import tds.exam.caching.RequestMemoized;
 import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.services.SessionService;
 import tds.session.ExternalSessionConfiguration;
@@ -28,15 +28,12 @@ class SessionServiceImpl implements SessionService {
         this.examServiceProperties = examServiceProperties;
     }
 
+    @RequestMemoized
     @Override
     public Optional<Session> findSessionById(UUID sessionId) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/%s", examServiceProperties.getSessionUrl(), sessionId));
-
         Optional<Session> maybeSession = Optional.empty();
         try {
-            final Session session = restTemplate.getForObject(builder.toUriString(), Session.class);
+            final Session session = restTemplate.getForObject(ServiceUrls.session(examServiceProperties, sessionId), Session.class);
             maybeSession = Optional.of(session);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -47,15 +44,13 @@ class SessionServiceImpl implements SessionService {
         return maybeSession;
     }
 
+    @RequestMemoized
     @Override
     public Optional<ExternalSessionConfiguration> findExternalSessionConfigurationByClientName(String clientName) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/external-config/%s", examServiceProperties.getSessionUrl(), clientName));
-
         Optional<ExternalSessionConfiguration> maybeExternalSessionConfig = Optional.empty();
         try {
-            final ExternalSessionConfiguration externalSessionConfiguration = restTemplate.getForObject(builder.toUriString(), ExternalSessionConfiguration.class);
+            final ExternalSessionConfiguration externalSessionConfiguration = restTemplate.getForObject(
+                ServiceUrls.externalSessionConfiguration(examServiceProperties, clientName), ExternalSessionConfiguration.class);
             maybeExternalSessionConfig = Optional.of(externalSessionConfiguration);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -68,13 +63,11 @@ class SessionServiceImpl implements SessionService {
 
     @Override
     public Optional<PauseSessionResponse> pause(final UUID sessionId, final String newStatus) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder.fromHttpUrl(String.format("%s/%s/pause", examServiceProperties.getSessionUrl(), sessionId));
-
         Optional<PauseSessionResponse> maybePauseSessionResponse = Optional.empty();
 
         try {
-            final PauseSessionResponse pauseSessionResponse = restTemplate.getForObject(builder.toUriString(), PauseSessionResponse.class);
+            final PauseSessionResponse pauseSessionResponse = restTemplate.getForObject(
+                ServiceUrls.pauseSession(examServiceProperties, sessionId), PauseSessionResponse.class);
             maybePauseSessionResponse = Optional.of(pauseSessionResponse);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -85,15 +78,14 @@ class SessionServiceImpl implements SessionService {
         return maybePauseSessionResponse;
     }
 
+    @RequestMemoized
     @Override
     public Optional<SessionAssessment> findSessionAssessment(UUID sessionId, String assessmentKey) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder.fromHttpUrl(String.format("%s/%s/assessment/%s", examServiceProperties.getSessionUrl(), sessionId, assessmentKey));
-
         Optional<SessionAssessment> maybeSessionAssessment = Optional.empty();
 
         try {
-            final SessionAssessment sessionAssessment = restTemplate.getForObject(builder.toUriString(), SessionAssessment.class);
+            final SessionAssessment sessionAssessment = restTemplate.getForObject(
+                ServiceUrls.sessionAssessment(examServiceProperties, sessionId, assessmentKey), SessionAssessment.class);
             maybeSessionAssessment = Optional.of(sessionAssessment);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
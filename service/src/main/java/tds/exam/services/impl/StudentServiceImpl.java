@@ -8,11 +8,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 
 import java.util.List;
 import java.util.Optional;
 
+import tds.exam.caching.RequestMemoized;
 import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.services.StudentService;
 import tds.student.RtsStudentPackageAttribute;
@@ -29,15 +29,12 @@ class StudentServiceImpl implements StudentService {
         this.examServiceProperties = examServiceProperties;
     }
 
+    @RequestMemoized
     @Override
     public Optional<Student> getStudentById(long studentId) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/%s", examServiceProperties.getStudentUrl(), studentId));
-
         Optional<Student> maybeStudent = Optional.empty();
         try {
-            final Student student = restTemplate.getForObject(builder.toUriString(), Student.class);
+            final Student student = restTemplate.getForObject(ServiceUrls.student(examServiceProperties, studentId), Student.class);
             maybeStudent = Optional.of(student);
         } catch (HttpClientErrorException hce) {
             if (hce.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -48,18 +45,11 @@ class StudentServiceImpl implements StudentService {
         return maybeStudent;
     }
 
+    @RequestMemoized
     @Override
     public List<RtsStudentPackageAttribute> findStudentPackageAttributes(long studentId, String clientName, String... attributeNames) {
-        UriComponentsBuilder builder =
-            UriComponentsBuilder
-                .fromHttpUrl(String.format("%s/%s/rts/%s/attributes=%s",
-                    examServiceProperties.getStudentUrl(),
-                    studentId,
-                    clientName,
-                    String.join(",", (CharSequence[]) attributeNames))
-                );
-
-        ResponseEntity<List<RtsStudentPackageAttribute>> responseEntity = restTemplate.exchange(builder.toUriString(),
+        ResponseEntity<List<RtsStudentPackageAttribute>> responseEntity = restTemplate.exchange(
+            ServiceUrls.studentPackageAttributes(examServiceProperties, studentId, clientName, attributeNames),
             HttpMethod.GET, null, new ParameterizedTypeReference<List<RtsStudentPackageAttribute>>() {
         });
 
@@ -6,8 +6,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
 import tds.config.TimeLimitConfiguration;
+import tds.exam.caching.RequestMemoized;
 import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.services.TimeLimitConfigurationService;
 
@@ -25,16 +25,14 @@ class TimeLimitConfigurationServiceImpl implements TimeLimitConfigurationService
         this.examServiceProperties = examServiceProperties;
     }
 
+    @RequestMemoized
     @Override
     public Optional<TimeLimitConfiguration> findTimeLimitConfiguration(String clientName, String assessmentId) {
-        UriComponentsBuilder uriBuilder =
-                UriComponentsBuilder
-                        .fromHttpUrl(String.format("%s/%s/%s", examServiceProperties.getConfigUrl(), clientName, assessmentId));
-
         Optional<TimeLimitConfiguration> maybeTimeLimitConfig = Optional.empty();
         try {
             final TimeLimitConfiguration timeLimitConfiguration =
-                    restTemplate.getForObject(uriBuilder.toUriString(), TimeLimitConfiguration.class);
+                    restTemplate.getForObject(ServiceUrls.timeLimitConfiguration(examServiceProperties, clientName, assessmentId),
+                        TimeLimitConfiguration.class);
             maybeTimeLimitConfig = Optional.of(timeLimitConfiguration);
         } catch (HttpClientErrorException e) {
             if (e.getStatusCode() != HttpStatus.NOT_FOUND) {
@@ -0,0 +1,65 @@
+package tds.exam.web.endpoints;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.repositories.ExamStatusQueryRepository;
+
+/**
+ * Administrative endpoints for the data the exam service holds in memory
+ */
+@RestController
+@RequestMapping("/exam/cache")
+public class CacheController {
+    private final ExamStatusQueryRepository examStatusQueryRepository;
+    private final List<CacheStatisticsProvider> cacheStatisticsProviders;
+    private final List<EvictableCache> evictableCaches;
+
+    @Autowired
+    public CacheController(ExamStatusQueryRepository examStatusQueryRepository,
+                           List<CacheStatisticsProvider> cacheStatisticsProviders,
+                           List<EvictableCache> evictableCaches) {
+        this.examStatusQueryRepository = examStatusQueryRepository;
+        this.cacheStatisticsProviders = cacheStatisticsProviders;
+        this.evictableCaches = evictableCaches;
+    }
+
+    @RequestMapping(value = "/statistics", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<CacheStatistics>> getCacheStatistics() {
+        return ResponseEntity.ok(cacheStatisticsProviders.stream()
+            .map(CacheStatisticsProvider::getCacheStatistics)
+            .collect(Collectors.toList()));
+    }
+
+    @RequestMapping(value = "/status-codes/reload", method = RequestMethod.POST)
+    ResponseEntity<Void> reloadExamStatusCodes() {
+        examStatusQueryRepository.reloadExamStatusCodes();
+        return ResponseEntity.noContent().build();
+    }
+
+    @RequestMapping(value = "/{cacheName}", method = RequestMethod.DELETE)
+    ResponseEntity<Void> evictCache(@PathVariable final String cacheName) {
+        Optional<EvictableCache> maybeCache = evictableCaches.stream()
+            .filter(cache -> cache.getCacheName().equals(cacheName))
+            .findFirst();
+
+        if (!maybeCache.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        maybeCache.get().evictAll();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,39 @@
+package tds.exam.web.endpoints;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Arrays;
+import java.util.List;
+
+import tds.exam.http.ConnectionPoolStatistics;
+
+/**
+ * Reports the usage of the pools of connections to the other services
+ */
+@RestController
+@RequestMapping("/exam/connection-pool")
+public class ConnectionPoolController {
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final PoolingNHttpClientConnectionManager asyncConnectionManager;
+
+    @Autowired
+    public ConnectionPoolController(PoolingHttpClientConnectionManager connectionManager,
+                                    PoolingNHttpClientConnectionManager asyncConnectionManager) {
+        this.connectionManager = connectionManager;
+        this.asyncConnectionManager = asyncConnectionManager;
+    }
+
+    @RequestMapping(value = "/statistics", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
+    ResponseEntity<List<ConnectionPoolStatistics>> getConnectionPoolStatistics() {
+        return ResponseEntity.ok(Arrays.asList(
+            new ConnectionPoolStatistics("blocking", connectionManager.getTotalStats()),
+            new ConnectionPoolStatistics("async", asyncConnectionManager.getTotalStats())));
+    }
+}
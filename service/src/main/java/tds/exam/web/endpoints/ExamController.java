@@ -13,9 +13,13 @@ import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 
 import tds.common.Response;
 import tds.common.ValidationError;
@@ -50,32 +54,32 @@ public class ExamController {
     }
 
     @RequestMapping(method = RequestMethod.POST, produces = MediaType.APPLICATION_JSON_VALUE)
-    ResponseEntity<Response<Exam>> openExam(@RequestBody final OpenExamRequest openExamRequest) {
-        Response<Exam> exam = examService.openExam(openExamRequest);
-
-        if (!exam.getData().isPresent()) {
-            return new ResponseEntity<>(exam, HttpStatus.UNPROCESSABLE_ENTITY);
-        }
-
-        Link link = linkTo(
-            methodOn(ExamController.class)
-                .getExamById(exam.getData().get().getId()))
-            .withSelfRel();
-
-        final HttpHeaders headers = new HttpHeaders();
-        headers.add("Location", link.getHref());
-        return new ResponseEntity<>(exam, headers, HttpStatus.OK);
+    DeferredResult<ResponseEntity<Response<Exam>>> openExam(@RequestBody final OpenExamRequest openExamRequest) {
+        return deferredResult(examService.openExam(openExamRequest), exam -> {
+            if (!exam.getData().isPresent()) {
+                return new ResponseEntity<>(exam, HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+
+            Link link = linkTo(
+                methodOn(ExamController.class)
+                    .getExamById(exam.getData().get().getId()))
+                .withSelfRel();
+
+            final HttpHeaders headers = new HttpHeaders();
+            headers.add("Location", link.getHref());
+            return new ResponseEntity<>(exam, headers, HttpStatus.OK);
+        });
     }
 
     @RequestMapping(value = "/{examId}/start", method = RequestMethod.PUT, produces = MediaType.APPLICATION_JSON_VALUE)
-    ResponseEntity<Response<ExamConfiguration>> startExam(@PathVariable final UUID examId) {
-        Response<ExamConfiguration> examConfiguration = examService.startExam(examId);
-
-        if (examConfiguration.getErrors().length > 0) {
-            return new ResponseEntity<>(examConfiguration, HttpStatus.UNPROCESSABLE_ENTITY);
-        }
-
-        return ResponseEntity.ok(examConfiguration);
+    DeferredResult<ResponseEntity<Response<ExamConfiguration>>> startExam(@PathVariable final UUID examId) {
+        return deferredResult(examService.startExam(examId), examConfiguration -> {
+            if (examConfiguration.getErrors().length > 0) {
+                return new ResponseEntity<>(examConfiguration, HttpStatus.UNPROCESSABLE_ENTITY);
+            }
+
+            return ResponseEntity.ok(examConfiguration);
+        });
     }
 
     @RequestMapping(value = "/{id}/get-approval", method = RequestMethod.GET, produces = MediaType.APPLICATION_JSON_VALUE)
@@ -111,4 +115,23 @@ public class ExamController {
     public void pauseExamsInSession(@PathVariable final UUID sessionId) {
         examService.pauseAllExamsInSession(sessionId);
     }
-}
\ No newline at end of file
+
+    /*
+     * The request thread is released while the future is outstanding.  A failure is reported unwrapped from the
+     * CompletionException so it reaches the exception handlers as if it had been thrown by the service directly.
+     */
+    private static <T, R> DeferredResult<R> deferredResult(final CompletableFuture<T> future, final Function<T, R> toResult) {
+        final DeferredResult<R> deferredResult = new DeferredResult<>();
+        future.thenApply(toResult).whenComplete((result, failure) -> {
+            if (failure == null) {
+                deferredResult.setResult(result);
+            } else {
+                deferredResult.setErrorResult(failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure);
+            }
+        });
+
+        return deferredResult;
+    }
+}
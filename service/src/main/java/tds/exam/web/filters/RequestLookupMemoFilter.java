@@ -0,0 +1,85 @@
+package tds.exam.web.filters;
+
+import com.google.common.cache.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.RequestLookupMemo;
+
+/**
+ * Gives every request its own {@link tds.exam.caching.RequestLookupMemo} and keeps a running total of the lookups
+ * against other services the requests made and the lookups they saved by reusing an earlier result.  The totals are
+ * reported with the other cache statistics: saved lookups as hits and lookups made as misses.
+ */
+@Component
+public class RequestLookupMemoFilter extends OncePerRequestFilter implements CacheStatisticsProvider {
+    public static final String CACHE_NAME = "request-lookups";
+
+    private static final Logger LOG = LoggerFactory.getLogger(RequestLookupMemoFilter.class);
+
+    private final AtomicLong callsMade = new AtomicLong();
+    private final AtomicLong callsSaved = new AtomicLong();
+
+    @Override
+    protected void doFilterInternal(final HttpServletRequest request,
+                                    final HttpServletResponse response,
+                                    final FilterChain filterChain) throws ServletException, IOException {
+        final RequestLookupMemo memo = new RequestLookupMemo();
+        request.setAttribute(RequestLookupMemo.ATTRIBUTE_NAME, memo);
+
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (isAsyncStarted(request)) {
+                // The lookups of a request completing asynchronously are only all made once it completes
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(final AsyncEvent event) {
+                        record(request, memo);
+                    }
+
+                    @Override
+                    public void onTimeout(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(final AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(final AsyncEvent event) {
+                    }
+                });
+            } else {
+                record(request, memo);
+            }
+        }
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics() {
+        final long made = callsMade.get();
+        // A memo only lives as long as its request so there is nothing held between requests
+        return new CacheStatistics(CACHE_NAME, 0, new CacheStats(callsSaved.get(), made, made, 0, 0, 0));
+    }
+
+    private void record(final HttpServletRequest request, final RequestLookupMemo memo) {
+        callsMade.addAndGet(memo.getCallsMade());
+        callsSaved.addAndGet(memo.getCallsSaved());
+        LOG.debug("{} {} made {} upstream calls and saved {}",
+            request.getMethod(), request.getRequestURI(), memo.getCallsMade(), memo.getCallsSaved());
+    }
+}
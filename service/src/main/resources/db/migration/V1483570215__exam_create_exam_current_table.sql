@@ -0,0 +1,83 @@
+/***********************************************************************************************************************
+  File: V1483570215__exam_create_exam_current_table.sql
+
+  Desc: Reading the current state of an exam requires finding the MAX(id) in exam_event for each exam, which becomes
+  expensive as the event table grows.  exam_current holds a single row per exam that mirrors the most recent exam_event
+  record.  It is written in the same transaction as the exam_event insert; exam_event remains the audit trail.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE TABLE exam_current (
+  exam_id VARBINARY(16) NOT NULL,
+  attempts INT(11) NOT NULL DEFAULT 0,
+  status VARCHAR(50) NOT NULL,
+  status_change_date DATETIME(3) NOT NULL,
+  status_change_reason VARCHAR(255) DEFAULT NULL,
+  browser_id VARBINARY(16) DEFAULT NULL,
+  max_items INT(11) NOT NULL DEFAULT 0,
+  language_code VARCHAR(50) DEFAULT NULL,
+  expire_from DATETIME(3) DEFAULT NULL,
+  date_changed DATETIME(3) DEFAULT NULL,
+  date_deleted DATETIME(3) DEFAULT NULL,
+  date_completed DATETIME(3) DEFAULT NULL,
+  date_scored DATETIME(3) DEFAULT NULL,
+  date_started DATETIME(3) DEFAULT NULL,
+  abnormal_starts INT(11) NOT NULL DEFAULT 0,
+  waiting_for_segment_approval BIT(1) DEFAULT NULL,
+  current_segment_position INT(11) DEFAULT NULL,
+  custom_accommodations BIT(1) NOT NULL DEFAULT 0,
+  updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (exam_id),
+  CONSTRAINT fk_exam_current_examid_exam FOREIGN KEY (exam_id) REFERENCES exam(id)
+);
+
+INSERT INTO exam_current (
+  exam_id,
+  attempts,
+  status,
+  status_change_date,
+  status_change_reason,
+  browser_id,
+  max_items,
+  language_code,
+  expire_from,
+  date_changed,
+  date_deleted,
+  date_completed,
+  date_scored,
+  date_started,
+  abnormal_starts,
+  waiting_for_segment_approval,
+  current_segment_position,
+  custom_accommodations
+)
+SELECT
+  ee.exam_id,
+  ee.attempts,
+  ee.status,
+  ee.status_change_date,
+  ee.status_change_reason,
+  ee.browser_id,
+  ee.max_items,
+  ee.language_code,
+  ee.expire_from,
+  ee.date_changed,
+  ee.date_deleted,
+  ee.date_completed,
+  ee.date_scored,
+  ee.date_started,
+  ee.abnormal_starts,
+  ee.waiting_for_segment_approval,
+  ee.current_segment_position,
+  ee.custom_accommodations
+FROM exam_event ee
+JOIN (
+  SELECT
+    exam_id,
+    MAX(id) AS id
+  FROM exam_event
+  GROUP BY exam_id
+) last_event
+  ON last_event.id = ee.id;
@@ -0,0 +1,12 @@
+/***********************************************************************************************************************
+  File: V1483574520__exam_add_student_assessment_index.sql
+
+  Desc: Looking up a student's most recent exam for an assessment is the first database call made when opening an exam.
+  This index lets that lookup seek directly to the student's exams for the assessment and read them newest first.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE INDEX ix_exam_student_id_assessment_id_client_name_created_at
+  ON exam(student_id, assessment_id, client_name, created_at);
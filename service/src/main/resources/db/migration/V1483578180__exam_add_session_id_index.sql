@@ -0,0 +1,11 @@
+/***********************************************************************************************************************
+  File: V1483578180__exam_add_session_id_index.sql
+
+  Desc: Pausing all the exams in a session looks up every exam by session_id.  Without an index this is a full scan of
+  the exam table.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE INDEX ix_exam_session_id ON exam(session_id);
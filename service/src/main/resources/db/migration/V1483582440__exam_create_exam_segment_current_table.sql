@@ -0,0 +1,49 @@
+/***********************************************************************************************************************
+  File: V1483582440__exam_create_exam_segment_current_table.sql
+
+  Desc: Reading the current state of an exam segment requires finding the latest exam_segment_event for the segment.
+  exam_segment_current holds a single row per exam segment that mirrors the most recent exam_segment_event record so
+  segment reads are primary key lookups.  It is written in the same transaction as the exam_segment_event insert.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE TABLE exam_segment_current (
+  exam_id VARBINARY(16) NOT NULL,
+  segment_position INT(11) NOT NULL,
+  satisfied BIT(1) NOT NULL DEFAULT b'0',
+  permeable BIT(1) NOT NULL DEFAULT b'0',
+  restore_permeable_condition VARCHAR(50) DEFAULT NULL,
+  date_exited DATETIME(3) DEFAULT NULL,
+  item_pool TEXT,
+  updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (exam_id, segment_position),
+  CONSTRAINT fk_exam_segment_current_pk_exam_segment FOREIGN KEY (exam_id, segment_position) REFERENCES exam_segment(exam_id, segment_position)
+);
+
+INSERT INTO exam_segment_current (
+  exam_id,
+  segment_position,
+  satisfied,
+  permeable,
+  restore_permeable_condition,
+  date_exited,
+  item_pool
+)
+SELECT
+  se.exam_id,
+  se.segment_position,
+  se.satisfied,
+  se.permeable,
+  se.restore_permeable_condition,
+  se.date_exited,
+  se.item_pool
+FROM exam_segment_event se
+JOIN (
+  SELECT
+    MAX(id) AS id
+  FROM exam_segment_event
+  GROUP BY exam_id, segment_position
+) last_event
+  ON last_event.id = se.id;
@@ -0,0 +1,16 @@
+/***********************************************************************************************************************
+  File: V1483586100__exam_add_exam_page_indexes.sql
+
+  Desc: Pages are always looked up by exam and their latest event by page.  ix_exam_page led with page_position so it
+  could not be used to find an exam's pages; it is replaced with an index leading with exam_id.  exam_page_event is
+  indexed on (exam_page_id, id) so the latest event for a page can be read from the index.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE INDEX ix_exam_page_exam_id_page_position ON exam_page(exam_id, page_position);
+
+DROP INDEX ix_exam_page ON exam_page;
+
+CREATE INDEX ix_exam_page_event_exam_page_id_id ON exam_page_event(exam_page_id, id);
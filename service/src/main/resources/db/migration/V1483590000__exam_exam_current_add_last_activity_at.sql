@@ -0,0 +1,44 @@
+/***********************************************************************************************************************
+  File: V1483590000__exam_exam_current_add_last_activity_at.sql
+
+  Desc: Adds last_activity_at to exam_current.  It holds the most recent time the student paused the exam, was given a
+  page or responded to an item, and is maintained as those records are written so checking whether an exam can be
+  resumed does not have to aggregate the exam's events, pages and responses.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+ALTER TABLE exam_current
+  ADD COLUMN last_activity_at DATETIME(3) DEFAULT NULL;
+
+UPDATE exam_current EC
+JOIN (
+  SELECT
+    exam_id,
+    MAX(activity_at) AS last_activity_at
+  FROM (
+    SELECT
+      exam_id,
+      date_changed AS activity_at
+    FROM exam_event
+    WHERE status = 'paused'
+    UNION ALL
+    SELECT
+      P.exam_id,
+      IR.created_at AS activity_at
+    FROM exam_item_response IR
+    JOIN exam_item I
+      ON I.id = IR.exam_item_id
+    JOIN exam_page P
+      ON P.id = I.exam_page_id
+    UNION ALL
+    SELECT
+      exam_id,
+      created_at AS activity_at
+    FROM exam_page
+  ) activity
+  GROUP BY exam_id
+) last_activity
+  ON last_activity.exam_id = EC.exam_id
+SET EC.last_activity_at = last_activity.last_activity_at;
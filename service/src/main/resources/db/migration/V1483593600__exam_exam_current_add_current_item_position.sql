@@ -0,0 +1,34 @@
+/***********************************************************************************************************************
+  File: V1483593600__exam_exam_current_add_current_item_position.sql
+
+  Desc: Adds current_item_position to exam_current.  It holds the highest position of an item the student has responded
+  to on a page that has not been deleted.  It is maintained as responses are written and reset when the exam's pages
+  are deleted so resuming an exam does not have to aggregate the exam's responses.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+ALTER TABLE exam_current
+  ADD COLUMN current_item_position INT(11) NOT NULL DEFAULT 0;
+
+UPDATE exam_current EC
+JOIN (
+  SELECT
+    P.exam_id,
+    MAX(I.position) AS position
+  FROM exam_item I
+  JOIN exam_item_response IR
+    ON IR.exam_item_id = I.id
+  JOIN exam_page P
+    ON P.id = I.exam_page_id
+  WHERE NOT EXISTS (
+    SELECT 1
+    FROM exam_page_event PE
+    WHERE PE.exam_page_id = P.id
+      AND PE.deleted_at IS NOT NULL
+  )
+  GROUP BY P.exam_id
+) last_position
+  ON last_position.exam_id = EC.exam_id
+SET EC.current_item_position = last_position.position;
@@ -0,0 +1,119 @@
+/***********************************************************************************************************************
+  File: V1483597200__exam_create_exam_ability_table.sql
+
+  Desc: Finding a student's initial ability joined exam, exam_current and exam_scores for every exam the student has
+  taken in the subject.  exam_ability holds one row per ability score of every scored exam that has not been deleted,
+  the same rows that join returned, so the lookup is a single read of the (client_name, student_id, subject) index.
+
+  Scores are written to exam_scores by the scoring process, so triggers on exam_scores keep exam_ability in step with
+  them.  Scoring, rescoring or deleting an exam is written to exam_current by the exam service, which refreshes the
+  exam's rows in the same transaction; there are no triggers on exam_current.
+
+  Creating the triggers needs the TRIGGER privilege, and on a server with binary logging enabled either SUPER or
+  log_bin_trust_function_creators = 1.
+
+***********************************************************************************************************************/
+
+USE exam;
+
+CREATE TABLE exam_ability (
+  exam_id VARBINARY(16) NOT NULL,
+  measure_of VARCHAR(150) NOT NULL,
+  measure_label VARCHAR(100) NOT NULL,
+  client_name VARCHAR(100) DEFAULT NULL,
+  student_id BIGINT(20) NOT NULL,
+  subject VARCHAR(20) NOT NULL,
+  assessment_id VARCHAR(255) NOT NULL,
+  attempts INT(11) NOT NULL,
+  date_scored DATETIME(3) NOT NULL,
+  score DOUBLE NOT NULL,
+  updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3),
+  PRIMARY KEY (exam_id, measure_of, measure_label),
+  KEY ix_exam_ability_student_subject (client_name, student_id, subject, date_scored),
+  CONSTRAINT fk_exam_ability_examid_exam FOREIGN KEY (exam_id) REFERENCES exam(id)
+);
+
+INSERT INTO exam_ability (
+  exam_id,
+  measure_of,
+  measure_label,
+  client_name,
+  student_id,
+  subject,
+  assessment_id,
+  attempts,
+  date_scored,
+  score
+)
+SELECT
+  e.id,
+  es.measure_of,
+  es.measure_label,
+  e.client_name,
+  e.student_id,
+  e.subject,
+  e.assessment_id,
+  ec.attempts,
+  ec.date_scored,
+  es.value
+FROM exam e
+JOIN exam_current ec
+  ON ec.exam_id = e.id
+JOIN exam_scores es
+  ON es.exam_id = e.id
+WHERE ec.date_deleted IS NULL
+  AND ec.date_scored IS NOT NULL
+  AND es.use_for_ability = 1
+  AND es.value IS NOT NULL;
+
+DELIMITER //
+
+CREATE TRIGGER trg_exam_scores_ai_exam_ability AFTER INSERT ON exam_scores
+FOR EACH ROW
+BEGIN
+  INSERT INTO exam_ability (exam_id, measure_of, measure_label, client_name, student_id, subject, assessment_id,
+                            attempts, date_scored, score)
+  SELECT e.id, NEW.measure_of, NEW.measure_label, e.client_name, e.student_id, e.subject, e.assessment_id,
+    ec.attempts, ec.date_scored, NEW.value
+  FROM exam e
+  JOIN exam_current ec
+    ON ec.exam_id = e.id
+  WHERE e.id = NEW.exam_id
+    AND ec.date_deleted IS NULL
+    AND ec.date_scored IS NOT NULL
+    AND NEW.use_for_ability = 1
+    AND NEW.value IS NOT NULL;
+END//
+
+CREATE TRIGGER trg_exam_scores_au_exam_ability AFTER UPDATE ON exam_scores
+FOR EACH ROW
+BEGIN
+  DELETE FROM exam_ability
+  WHERE exam_id = OLD.exam_id
+    AND measure_of = OLD.measure_of
+    AND measure_label = OLD.measure_label;
+
+  INSERT INTO exam_ability (exam_id, measure_of, measure_label, client_name, student_id, subject, assessment_id,
+                            attempts, date_scored, score)
+  SELECT e.id, NEW.measure_of, NEW.measure_label, e.client_name, e.student_id, e.subject, e.assessment_id,
+    ec.attempts, ec.date_scored, NEW.value
+  FROM exam e
+  JOIN exam_current ec
+    ON ec.exam_id = e.id
+  WHERE e.id = NEW.exam_id
+    AND ec.date_deleted IS NULL
+    AND ec.date_scored IS NOT NULL
+    AND NEW.use_for_ability = 1
+    AND NEW.value IS NOT NULL;
+END//
+
+CREATE TRIGGER trg_exam_scores_ad_exam_ability AFTER DELETE ON exam_scores
+FOR EACH ROW
+BEGIN
+  DELETE FROM exam_ability
+  WHERE exam_id = OLD.exam_id
+    AND measure_of = OLD.measure_of
+    AND measure_label = OLD.measure_label;
+END//
+
+DELIMITER ;
@@ -35,6 +35,7 @@ public class ExamBuilder {
     private String studentKey = "ADV001";
     private String studentName = "Darth";
     private Instant dateJoined = null;
+    private Instant createdAt = null;
     private String assessmentWindowId = "ANNUAL";
     private String assessmentAlgorithm = "fixedForm";
     private String assessmentKey = "(SBAC_PT)SBAC-IRP-CAT-ELA-3-Summer-2015-2016";
@@ -82,6 +83,7 @@ public class ExamBuilder {
             .withCustomAccommodation(customAccommodations)
             .withResumptions(resumptions)
             .withRestartsAndResumptions(restartsAndResumptions)
+            .withCreatedAt(createdAt)
             .build();
     }
 
@@ -100,6 +102,11 @@ public class ExamBuilder {
         return this;
     }
 
+    public ExamBuilder withCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
     public ExamBuilder withAssessmentWindowId(String assessmentWindowId) {
         this.assessmentWindowId = assessmentWindowId;
         return this;
@@ -0,0 +1,89 @@
+package tds.exam.caching;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncLoadingCacheTest {
+    private Cache<String, String> cache;
+    private AsyncLoadingCache<String, String> asyncLoadingCache;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        cache = CacheBuilder.newBuilder().build();
+        asyncLoadingCache = new AsyncLoadingCache<>(cache);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldAnswerCachedValueWithoutLoading() {
+        cache.put("key", "cached");
+
+        CompletableFuture<Optional<String>> maybeValue = asyncLoadingCache.getIfFound("key", key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.of("loaded"));
+        });
+
+        assertThat(maybeValue.join()).contains("cached");
+        assertThat(loads.get()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldLoadValueOnceForCallersWaitingOnTheSameLoad() {
+        CompletableFuture<Optional<String>> response = new CompletableFuture<>();
+
+        CompletableFuture<Optional<String>> first = asyncLoadingCache.getIfFound("key", key -> {
+            loads.incrementAndGet();
+            return response;
+        });
+        CompletableFuture<Optional<String>> second = asyncLoadingCache.getIfFound("key", key -> {
+            loads.incrementAndGet();
+            return response;
+        });
+        assertThat(first.isDone()).isFalse();
+
+        response.complete(Optional.of("loaded"));
+
+        assertThat(first.join()).contains("loaded");
+        assertThat(second.join()).contains("loaded");
+        assertThat(cache.getIfPresent("key")).isEqualTo("loaded");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCacheValueThatWasNotFound() {
+        CompletableFuture<Optional<String>> maybeValue = asyncLoadingCache.getIfFound("key", key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.empty());
+        });
+        asyncLoadingCache.getIfFound("key", key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.empty());
+        });
+
+        assertThat(maybeValue.join()).isNotPresent();
+        assertThat(cache.size()).isEqualTo(0);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldLoadAgainAfterLoadFailed() {
+        CompletableFuture<Optional<String>> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new IllegalStateException("Service unavailable"));
+
+        CompletableFuture<Optional<String>> failed = asyncLoadingCache.getIfFound("key", key -> failedResponse);
+        CompletableFuture<Optional<String>> maybeValue = asyncLoadingCache.getIfFound("key",
+            key -> CompletableFuture.completedFuture(Optional.of("loaded")));
+
+        assertThat(failed.isCompletedExceptionally()).isTrue();
+        assertThat(maybeValue.join()).contains("loaded");
+    }
+}
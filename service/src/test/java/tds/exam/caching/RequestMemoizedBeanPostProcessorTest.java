@@ -0,0 +1,170 @@
+package tds.exam.caching;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class RequestMemoizedBeanPostProcessorTest {
+    private RequestLookupMemo memo;
+    private ServletRequestAttributes requestAttributes;
+    private CountingLookups target;
+    private CountingLookups lookups;
+
+    @Before
+    public void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        memo = new RequestLookupMemo();
+        request.setAttribute(RequestLookupMemo.ATTRIBUTE_NAME, memo);
+        requestAttributes = new ServletRequestAttributes(request);
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+
+        target = new CountingLookups();
+        lookups = (CountingLookups) new RequestMemoizedBeanPostProcessor()
+            .postProcessAfterInitialization(target, "countingLookups");
+    }
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void shouldReuseResultOfRepeatedLookupWithinRequest() {
+        assertThat(lookups.find("a")).isEqualTo("a-1");
+        assertThat(lookups.find("a")).isEqualTo("a-1");
+        assertThat(lookups.find("b")).isEqualTo("b-2");
+
+        assertThat(memo.getCallsMade()).isEqualTo(2);
+        assertThat(memo.getCallsSaved()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCompareVarargsByContent() {
+        assertThat(lookups.findAll("a", "b")).isEqualTo("a,b-1");
+        assertThat(lookups.findAll("a", "b")).isEqualTo("a,b-1");
+
+        assertThat(memo.getCallsSaved()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotMemoizeMethodsWithoutAnnotation() {
+        lookups.update("a");
+        lookups.update("a");
+
+        assertThat(target.calls.get()).isEqualTo(2);
+        assertThat(memo.getCallsMade()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCallAgainAfterFailedLookup() {
+        for (int i = 0; i < 2; i++) {
+            try {
+                lookups.fail("a");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+        }
+
+        assertThat(memo.getCallsMade()).isEqualTo(2);
+        assertThat(memo.getCallsSaved()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCallThroughOutsideRequest() {
+        RequestContextHolder.resetRequestAttributes();
+
+        assertThat(lookups.find("a")).isEqualTo("a-1");
+        assertThat(lookups.find("a")).isEqualTo("a-2");
+        assertThat(memo.getCallsMade()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCallThroughAfterRequestCompleted() {
+        requestAttributes.requestCompleted();
+
+        assertThat(lookups.find("a")).isEqualTo("a-1");
+        assertThat(lookups.find("a")).isEqualTo("a-2");
+        assertThat(memo.getCallsMade()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldHandOutListResultsThatCannotBeModified() {
+        List<String> first = lookups.findList("a");
+        List<String> second = lookups.findList("a");
+
+        assertThat(second).isSameAs(first).containsExactly("a-1");
+        assertThat(catchThrowable(() -> first.add("b"))).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void shouldShareResultWithNonBlockingLookup() throws Exception {
+        Method find = CountingLookups.class.getMethod("find", String.class);
+        CompletableFuture<String> response = new CompletableFuture<>();
+
+        CompletableFuture<String> nonBlockingResult = memo.lookupAsync(find, new Object[]{"a"}, () -> response);
+        CompletableFuture<String> repeatedResult = memo.lookupAsync(find, new Object[]{"a"}, () -> response);
+        response.complete("a-async");
+
+        assertThat(nonBlockingResult.join()).isEqualTo("a-async");
+        assertThat(repeatedResult.join()).isEqualTo("a-async");
+        assertThat(lookups.find("a")).isEqualTo("a-async");
+        assertThat(target.calls.get()).isEqualTo(0);
+        assertThat(memo.getCallsMade()).isEqualTo(1);
+        assertThat(memo.getCallsSaved()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldRequestAgainAfterFailedNonBlockingLookup() throws Exception {
+        Method find = CountingLookups.class.getMethod("find", String.class);
+        CompletableFuture<String> failedResponse = new CompletableFuture<>();
+        failedResponse.completeExceptionally(new IllegalStateException("a"));
+
+        CompletableFuture<String> failedResult = memo.lookupAsync(find, new Object[]{"a"}, () -> failedResponse);
+
+        assertThat(catchThrowable(failedResult::join)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(lookups.find("a")).isEqualTo("a-1");
+        assertThat(memo.getCallsMade()).isEqualTo(2);
+    }
+
+    static class CountingLookups {
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @RequestMemoized
+        public String find(String key) {
+            return key + "-" + calls.incrementAndGet();
+        }
+
+        @RequestMemoized
+        public String findAll(String... keys) {
+            return String.join(",", keys) + "-" + calls.incrementAndGet();
+        }
+
+        @RequestMemoized
+        public String fail(String key) {
+            calls.incrementAndGet();
+            throw new IllegalStateException(key);
+        }
+
+        @RequestMemoized
+        public List<String> findList(String key) {
+            return new ArrayList<>(Collections.singletonList(key + "-" + calls.incrementAndGet()));
+        }
+
+        public void update(String key) {
+            calls.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package tds.exam.http;
+
+import org.apache.http.nio.conn.NHttpClientConnectionManager;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncConnectionEvictorTest {
+    @Mock
+    private NHttpClientConnectionManager mockConnectionManager;
+
+    @Test
+    public void shouldCloseExpiredAndIdleConnections() {
+        AsyncConnectionEvictor evictor = new AsyncConnectionEvictor(mockConnectionManager, 5000);
+
+        evictor.evict();
+
+        verify(mockConnectionManager).closeExpiredConnections();
+        verify(mockConnectionManager).closeIdleConnections(5000, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,170 @@
+package tds.exam.repositories.impl;
+
+import org.joda.time.Instant;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import tds.exam.Exam;
+import tds.exam.ExamStatusCode;
+import tds.exam.ExamStatusStage;
+import tds.exam.builder.ExamBuilder;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.repositories.ExamStatusQueryRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExamCacheTest {
+    private ExamCache examCache;
+
+    @Mock
+    private ExamStatusQueryRepository mockExamStatusQueryRepository;
+
+    @Before
+    public void setUp() {
+        examCache = new ExamCache(new ExamServiceProperties(), mockExamStatusQueryRepository);
+        when(mockExamStatusQueryRepository.findExamStatusCode(anyString()))
+            .thenAnswer(invocation -> new ExamStatusCode((String) invocation.getArguments()[0], ExamStatusStage.INACTIVE));
+    }
+
+    @Test
+    public void shouldOnlyLoadAnExamOnce() {
+        Exam exam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        AtomicInteger loads = new AtomicInteger();
+
+        examCache.get(exam.getId(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(exam);
+        });
+        Optional<Exam> maybeExam = examCache.get(exam.getId(), () -> {
+            loads.incrementAndGet();
+            return Optional.of(exam);
+        });
+
+        assertThat(maybeExam).contains(exam);
+        assertThat(loads.get()).isEqualTo(1);
+
+        CacheStatistics statistics = examCache.getCacheStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getLoadCount()).isEqualTo(1);
+        assertThat(statistics.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldNotCacheMissingExams() {
+        Exam exam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+
+        assertThat(examCache.get(exam.getId(), Optional::empty)).isNotPresent();
+        assertThat(examCache.get(exam.getId(), () -> Optional.of(exam))).contains(exam);
+        assertThat(examCache.getCacheStatistics().getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldThrowLoaderException() {
+        Exam exam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        IllegalStateException failure = new IllegalStateException("failed");
+
+        assertThat(catchThrowable(() -> examCache.get(exam.getId(), () -> {
+            throw failure;
+        }))).isSameAs(failure);
+        assertThat(examCache.get(exam.getId(), () -> Optional.of(exam))).contains(exam);
+    }
+
+    @Test
+    public void shouldReturnWrittenExamWithoutLoading() {
+        Exam exam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        examCache.get(exam.getId(), () -> Optional.of(exam));
+
+        Exam pausedExam = new Exam.Builder()
+            .fromExam(exam)
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_PAUSED, ExamStatusStage.IN_USE), Instant.now())
+            .build();
+        examCache.put(pausedExam);
+
+        Optional<Exam> maybeExam = examCache.get(exam.getId(), Optional::empty);
+        assertThat(maybeExam).isPresent();
+        assertThat(maybeExam.get().getStatus().getCode()).isEqualTo(ExamStatusCode.STATUS_PAUSED);
+        assertThat(maybeExam.get().getStatus().getStage()).isEqualTo(ExamStatusStage.INACTIVE);
+    }
+
+    @Test
+    public void shouldNotCacheWrittenExamWithoutCreatedAt() {
+        Exam exam = new ExamBuilder().build();
+        Exam savedExam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+
+        examCache.put(exam);
+
+        assertThat(examCache.get(exam.getId(), () -> Optional.of(savedExam))).contains(savedExam);
+    }
+
+    @Test
+    public void shouldDiscardLoadThatOverlapsACommittedWriteWithoutCreatedAt() {
+        Exam staleExam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        Exam writtenExam = new Exam.Builder().fromExam(staleExam).withCreatedAt(null).build();
+        Exam committedExam = new Exam.Builder().fromExam(staleExam).withAttempts(staleExam.getAttempts() + 1).build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            examCache.put(writtenExam);
+            // The read sees the row from before the commit, the commit's after-commit step runs before it is cached
+            examCache.get(staleExam.getId(), () -> {
+                TransactionSynchronizationUtils.triggerAfterCommit();
+                return Optional.of(staleExam);
+            });
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(examCache.get(staleExam.getId(), () -> Optional.of(committedExam))).contains(committedExam);
+    }
+
+    @Test
+    public void shouldKeepCommittedWriteOverOverlappingLoad() {
+        Exam staleExam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        Exam writtenExam = new Exam.Builder()
+            .fromExam(staleExam)
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_PAUSED, ExamStatusStage.IN_USE), Instant.now())
+            .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            examCache.put(writtenExam);
+            examCache.get(staleExam.getId(), () -> {
+                TransactionSynchronizationUtils.triggerAfterCommit();
+                return Optional.of(staleExam);
+            });
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        Optional<Exam> maybeExam = examCache.get(staleExam.getId(), () -> Optional.of(staleExam));
+        assertThat(maybeExam).isPresent();
+        assertThat(maybeExam.get().getStatus().getCode()).isEqualTo(ExamStatusCode.STATUS_PAUSED);
+    }
+
+    @Test
+    public void shouldDiscardLoadThatOverlapsAnInvalidate() {
+        Exam staleExam = new ExamBuilder().withCreatedAt(Instant.now()).build();
+        Exam freshExam = new Exam.Builder().fromExam(staleExam).withAttempts(staleExam.getAttempts() + 1).build();
+
+        examCache.get(staleExam.getId(), () -> {
+            examCache.invalidate(staleExam.getId());
+            return Optional.of(staleExam);
+        });
+
+        assertThat(examCache.get(staleExam.getId(), () -> Optional.of(freshExam))).contains(freshExam);
+    }
+}
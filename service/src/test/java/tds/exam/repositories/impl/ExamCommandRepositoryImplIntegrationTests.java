@@ -7,7 +7,9 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,13 @@ import tds.exam.Exam;
 import tds.exam.ExamStatusCode;
 import tds.exam.ExamStatusStage;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.repositories.ExamCommandRepository;
 import tds.exam.repositories.ExamQueryRepository;
+import tds.exam.repositories.ExamStatusQueryRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static tds.common.data.mysql.UuidAdapter.getBytesFromUUID;
 
 @RunWith(SpringJUnit4ClassRunner.class)
 @SpringBootTest
@@ -37,8 +42,10 @@ public class ExamCommandRepositoryImplIntegrationTests {
 
     @Before
     public void setUp() {
-        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate);
-        examQueryRepository = new ExamQueryRepositoryImpl(jdbcTemplate);
+        ExamStatusQueryRepository examStatusQueryRepository = new ExamStatusQueryRepositoryImpl(jdbcTemplate);
+        ExamCache examCache = new ExamCache(new ExamServiceProperties(), examStatusQueryRepository);
+        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate, examCache);
+        examQueryRepository = new ExamQueryRepositoryImpl(jdbcTemplate, examStatusQueryRepository, examCache);
     }
 
     @Test
@@ -157,4 +164,32 @@ public class ExamCommandRepositoryImplIntegrationTests {
         assertThat(mockSecondExamAfterUpdate.getMaxItems()).isEqualTo(600);
         assertThat(mockSecondExamAfterUpdate.getStatusChangeReason()).isEqualTo("unit test 2");
     }
+
+    @Test
+    public void shouldKeepSingleCurrentRowWhileRecordingEveryEvent() {
+        Exam exam = new ExamBuilder().build();
+        examCommandRepository.insert(exam);
+
+        examCommandRepository.update(new Exam.Builder().fromExam(exam)
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_APPROVED, ExamStatusStage.IN_USE), Instant.now())
+            .build());
+        examCommandRepository.update(new Exam.Builder().fromExam(exam)
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_STARTED, ExamStatusStage.IN_USE), Instant.now())
+            .withAttempts(2)
+            .build());
+
+        SqlParameterSource parameters = new MapSqlParameterSource("examId", getBytesFromUUID(exam.getId()));
+
+        Integer eventCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exam_event WHERE exam_id = :examId", parameters, Integer.class);
+        Integer currentCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exam_current WHERE exam_id = :examId", parameters, Integer.class);
+        String currentStatus = jdbcTemplate.queryForObject("SELECT status FROM exam_current WHERE exam_id = :examId", parameters, String.class);
+
+        assertThat(eventCount).isEqualTo(3);
+        assertThat(currentCount).isEqualTo(1);
+        assertThat(currentStatus).isEqualTo(ExamStatusCode.STATUS_STARTED);
+
+        Exam currentExam = examQueryRepository.getExamById(exam.getId()).get();
+        assertThat(currentExam.getStatus().getCode()).isEqualTo(ExamStatusCode.STATUS_STARTED);
+        assertThat(currentExam.getAttempts()).isEqualTo(2);
+    }
 }
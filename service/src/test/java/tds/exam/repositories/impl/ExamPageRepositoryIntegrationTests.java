@@ -11,9 +11,11 @@ import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Arrays;
+import java.util.List;
 
 import tds.exam.Exam;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.models.ExamPage;
 import tds.exam.repositories.ExamCommandRepository;
 import tds.exam.repositories.ExamPageCommandRepository;
@@ -36,7 +38,8 @@ public class ExamPageRepositoryIntegrationTests {
     public void setUp() {
         examPageCommandRepository = new ExamPageCommandRepositoryImpl(commandJdbcTemplate);
         examPageQueryRepository = new ExamPageQueryRepositoryImpl(commandJdbcTemplate);
-        examCommandRepository = new ExamCommandRepositoryImpl(commandJdbcTemplate);
+        examCommandRepository = new ExamCommandRepositoryImpl(commandJdbcTemplate,
+            new ExamCache(new ExamServiceProperties(), new ExamStatusQueryRepositoryImpl(commandJdbcTemplate)));
     }
 
     @Test
@@ -66,4 +69,30 @@ public class ExamPageRepositoryIntegrationTests {
         assertThat(examPageQueryRepository.findAll(exam.getId())).hasSize(1);
     }
 
+    @Test
+    public void shouldOnlyFindPagesForTheExam() {
+        Exam exam = new ExamBuilder().build();
+        Exam otherExam = new ExamBuilder().build();
+        examCommandRepository.insert(exam);
+        examCommandRepository.insert(otherExam);
+
+        ExamPage examPage = new ExamPage.Builder()
+            .withExamId(exam.getId())
+            .withPagePosition(1)
+            .withItemGroupKey("GroupKey1")
+            .build();
+        ExamPage otherExamPage = new ExamPage.Builder()
+            .withExamId(otherExam.getId())
+            .withPagePosition(1)
+            .withItemGroupKey("GroupKey2")
+            .build();
+        examPageCommandRepository.insert(Arrays.asList(examPage, otherExamPage));
+        examPageCommandRepository.deleteAll(otherExam.getId());
+
+        List<ExamPage> examPages = examPageQueryRepository.findAll(exam.getId());
+        assertThat(examPages).hasSize(1);
+        assertThat(examPages.get(0).getItemGroupKey()).isEqualTo("GroupKey1");
+        assertThat(examPageQueryRepository.findAll(otherExam.getId())).isEmpty();
+    }
+
 }
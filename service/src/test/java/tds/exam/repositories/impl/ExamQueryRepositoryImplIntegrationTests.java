@@ -11,12 +11,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -28,9 +31,15 @@ import tds.exam.Exam;
 import tds.exam.ExamStatusCode;
 import tds.exam.ExamStatusStage;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.models.Ability;
+import tds.exam.models.ExamItemResponse;
+import tds.exam.models.ExamPage;
 import tds.exam.repositories.ExamCommandRepository;
+import tds.exam.repositories.ExamPageCommandRepository;
 import tds.exam.repositories.ExamQueryRepository;
+import tds.exam.repositories.ExamResponseCommandRepository;
+import tds.exam.repositories.ExamStatusQueryRepository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -40,6 +49,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 public class ExamQueryRepositoryImplIntegrationTests {
     private ExamQueryRepository examQueryRepository;
     private ExamCommandRepository examCommandRepository;
+    private ExamPageCommandRepository examPageCommandRepository;
+    private ExamResponseCommandRepository examResponseCommandRepository;
 
     @Autowired
     @Qualifier("commandJdbcTemplate")
@@ -53,8 +64,12 @@ public class ExamQueryRepositoryImplIntegrationTests {
 
     @Before
     public void setUp() {
-        examQueryRepository = new ExamQueryRepositoryImpl(jdbcTemplate);
-        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate);
+        ExamStatusQueryRepository examStatusQueryRepository = new ExamStatusQueryRepositoryImpl(jdbcTemplate);
+        ExamCache examCache = new ExamCache(new ExamServiceProperties(), examStatusQueryRepository);
+        examQueryRepository = new ExamQueryRepositoryImpl(jdbcTemplate, examStatusQueryRepository, examCache);
+        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate, examCache);
+        examPageCommandRepository = new ExamPageCommandRepositoryImpl(jdbcTemplate);
+        examResponseCommandRepository = new ExamResponseCommandRepositoryImpl(jdbcTemplate);
         List<Exam> exams = new ArrayList<>();
         // Build a basic exam record
         exams.add(new ExamBuilder().build());
@@ -78,7 +93,7 @@ public class ExamQueryRepositoryImplIntegrationTests {
 
         exams.forEach(exam -> examCommandRepository.insert(exam));
 
-        insertExamScoresData();
+        insertExamScoresData(currentExamId, 50);
 
         // Build exams that belong to the same session
         examsInSession = new ArrayList<>();
@@ -143,6 +158,36 @@ public class ExamQueryRepositoryImplIntegrationTests {
         assertThat(examOptional.isPresent()).isFalse();
     }
 
+    @Test
+    public void shouldRetrieveMostRecentNonDeletedExamWhenStudentHasSeveralAttempts() {
+        Exam olderExam = new ExamBuilder()
+            .withStudentId(2L)
+            .withAssessmentId("assessmentId7")
+            .build();
+        Exam newerExam = new ExamBuilder()
+            .withStudentId(2L)
+            .withAssessmentId("assessmentId7")
+            .withAttempts(1)
+            .build();
+        Exam newestDeletedExam = new ExamBuilder()
+            .withStudentId(2L)
+            .withAssessmentId("assessmentId7")
+            .withDateDeleted(Instant.now())
+            .build();
+
+        examCommandRepository.insert(olderExam);
+        examCommandRepository.insert(newerExam);
+        examCommandRepository.insert(newestDeletedExam);
+
+        updateExamCreatedAt(olderExam.getId(), Instant.now().minus(60000));
+        updateExamCreatedAt(newerExam.getId(), Instant.now().minus(30000));
+        updateExamCreatedAt(newestDeletedExam.getId(), Instant.now());
+
+        Optional<Exam> maybeExam = examQueryRepository.getLastAvailableExam(2L, "assessmentId7", "clientName");
+        assertThat(maybeExam).isPresent();
+        assertThat(maybeExam.get().getId()).isEqualTo(newerExam.getId());
+    }
+
     @Test
     public void shouldReturnEmptyListOfAbilities() {
         List<Ability> noAbilities = examQueryRepository.findAbilities(UUID.fromString("12345678-d1d2-4c24-805c-0dfdb45a0999"),
@@ -174,9 +219,6 @@ public class ExamQueryRepositoryImplIntegrationTests {
     @Test
     public void shouldReturnLastResponseDate() {
         Instant datePaused = Instant.now().minus(50000);
-        Instant datePageCreated = Instant.now().minus(70000);
-        Instant dateLastResponseSubmitted = Instant.now().minus(20000);
-        Instant dateEarlierResponseSubmitted = Instant.now().minus(30000);
 
         Exam exam = new ExamBuilder()
             .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_PAUSED, ExamStatusStage.INACTIVE), datePaused)
@@ -184,19 +226,24 @@ public class ExamQueryRepositoryImplIntegrationTests {
             .build();
         examCommandRepository.insert(exam);
 
-        insertTestDataForResponses(datePageCreated, dateLastResponseSubmitted, dateEarlierResponseSubmitted, exam);
+        ExamPage examPage = insertPage(exam, 1);
+        long examItemId = insertItem(examPage, 1);
+        examResponseCommandRepository.insert(Arrays.asList(
+            new ExamItemResponse.Builder().withExamItemId(examItemId).withResponse("Response 1").build(),
+            new ExamItemResponse.Builder().withExamItemId(examItemId).withResponse("Response 2").build()));
+
+        Timestamp dateLastResponseSubmitted = jdbcTemplate.queryForObject(
+            "SELECT MAX(created_at) FROM exam_item_response WHERE exam_item_id = :examItemId",
+            new MapSqlParameterSource("examItemId", examItemId), Timestamp.class);
 
         Optional<Instant> maybeLastTimeStudentResponded = examQueryRepository.findLastStudentActivity(exam.getId());
         assertThat(maybeLastTimeStudentResponded).isPresent();
-        assertThat(maybeLastTimeStudentResponded.get()).isEqualTo(dateLastResponseSubmitted);
+        assertThat(maybeLastTimeStudentResponded.get()).isEqualTo(new Instant(dateLastResponseSubmitted.getTime()));
     }
 
     @Test
     public void shouldReturnLastPageCreated() {
         Instant datePaused = Instant.now().minus(50000);
-        Instant datePageCreated = Instant.now().minus(20000);
-        Instant dateLastResponseSubmitted = Instant.now().minus(40000);
-        Instant dateEarlierResponseSubmitted = Instant.now().minus(30000);
 
         Exam exam = new ExamBuilder()
             .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_PAUSED, ExamStatusStage.INACTIVE), datePaused)
@@ -204,35 +251,51 @@ public class ExamQueryRepositoryImplIntegrationTests {
             .build();
         examCommandRepository.insert(exam);
 
-        insertTestDataForResponses(datePageCreated, dateLastResponseSubmitted, dateEarlierResponseSubmitted, exam);
+        ExamPage firstPage = insertPage(exam, 1);
+        long examItemId = insertItem(firstPage, 1);
+        examResponseCommandRepository.insert(Collections.singletonList(
+            new ExamItemResponse.Builder().withExamItemId(examItemId).withResponse("Response 1").build()));
+        ExamPage secondPage = insertPage(exam, 2);
+
+        Timestamp datePageCreated = jdbcTemplate.queryForObject(
+            "SELECT created_at FROM exam_page WHERE id = :examPageId",
+            new MapSqlParameterSource("examPageId", secondPage.getId()), Timestamp.class);
 
         Optional<Instant> maybeLastTimeStudentResponded = examQueryRepository.findLastStudentActivity(exam.getId());
         assertThat(maybeLastTimeStudentResponded).isPresent();
-        assertThat(maybeLastTimeStudentResponded.get()).isEqualTo(datePageCreated);
+        assertThat(maybeLastTimeStudentResponded.get()).isEqualTo(new Instant(datePageCreated.getTime()));
     }
 
-    private void insertTestDataForResponses(Instant datePageCreated, Instant dateLastResponseSubmitted, Instant dateEarlierResponseSubmitted, Exam exam) {
-        MapSqlParameterSource testParams = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(exam.getId()))
-            .addValue("datePageCreated", new Timestamp(datePageCreated.getMillis()))
-            .addValue("dateLastResponseSubmitted", new Timestamp(dateLastResponseSubmitted.getMillis()))
-            .addValue("dateEarlierResponseSubmitted", new Timestamp(dateEarlierResponseSubmitted.getMillis()));
-
-        final String insertPageSQL =
-            "INSERT INTO exam_page (id, page_position, item_group_key, exam_id, created_at) " +
-            "VALUES (805, 1, 'GroupKey1', :examId, :datePageCreated)";
-        final String insertPageEventSQL =
-            "INSERT INTO exam_page_event (exam_page_id, started_at) VALUES (805, now())";
+    @Test
+    public void shouldReturnEmptyWhenThereHasBeenNoStudentActivity() {
+        Exam exam = new ExamBuilder().build();
+        examCommandRepository.insert(exam);
+
+        assertThat(examQueryRepository.findLastStudentActivity(exam.getId())).isNotPresent();
+    }
+
+    private ExamPage insertPage(Exam exam, int pagePosition) {
+        ExamPage examPage = new ExamPage.Builder()
+            .withExamId(exam.getId())
+            .withPagePosition(pagePosition)
+            .withItemGroupKey("GroupKey" + pagePosition)
+            .build();
+        examPageCommandRepository.insert(Collections.singletonList(examPage));
+
+        return examPage;
+    }
+
+    private long insertItem(ExamPage examPage, int position) {
+        SqlParameterSource parameters = new MapSqlParameterSource("examPageId", examPage.getId())
+            .addValue("position", position);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
         final String insertItemSQL =
-            "INSERT INTO exam_item (id, item_key, exam_page_id, position, type, is_fieldtest, segment_id, is_required)" +
-            "VALUES (2112, 'item-1', 805, 1, 'MI', 0, 'seg-id', 0)";
-        final String insertResponsesSQL =
-            "INSERT INTO exam_item_response (id, exam_item_id, response, created_at) " +
-            "VALUES (1337, 2112, 'Response 1', :dateLastResponseSubmitted), (1338, 2112, 'Response 2', :dateEarlierResponseSubmitted)";
-
-        jdbcTemplate.update(insertPageSQL, testParams);
-        jdbcTemplate.update(insertPageEventSQL, testParams);
-        jdbcTemplate.update(insertItemSQL, testParams);
-        jdbcTemplate.update(insertResponsesSQL, testParams);
+            "INSERT INTO exam_item (item_key, exam_page_id, position, type, is_fieldtest, segment_id, is_required) " +
+            "VALUES ('item-1', :examPageId, :position, 'MI', 0, 'seg-id', 0)";
+
+        jdbcTemplate.update(insertItemSQL, parameters, keyHolder);
+        return keyHolder.getKey().longValue();
     }
 
     @Test
@@ -249,6 +312,128 @@ public class ExamQueryRepositoryImplIntegrationTests {
         assertThat(myAbility.getDateScored()).isLessThan(java.time.Instant.now());
     }
 
+    @Test
+    public void shouldReturnAbilityAsSoonAsScoresAreInserted() {
+        Exam scoredExam = new ExamBuilder()
+            .withStudentId(5555L)
+            .withAttempts(1)
+            .withDateScored(Instant.now().minus(Minutes.minutes(5).toStandardDuration()))
+            .build();
+        examCommandRepository.insert(scoredExam);
+
+        assertThat(examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 5555L)).isEmpty();
+
+        insertExamScoresData(scoredExam.getId(), 42);
+
+        List<Ability> abilities = examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 5555L);
+        assertThat(abilities).hasSize(1);
+        assertThat(abilities.get(0).getExamId()).isEqualTo(scoredExam.getId());
+        assertThat(abilities.get(0).getScore()).isEqualTo(42.0);
+    }
+
+    @Test
+    public void shouldReturnPreviousAttemptWhenCurrentExamIsTheLatestScored() {
+        Exam previousExam = new ExamBuilder()
+            .withStudentId(6666L)
+            .withAttempts(1)
+            .withDateScored(Instant.now().minus(Minutes.minutes(10).toStandardDuration()))
+            .build();
+        Exam latestExam = new ExamBuilder()
+            .withStudentId(6666L)
+            .withAttempts(2)
+            .withDateScored(Instant.now().minus(Minutes.minutes(1).toStandardDuration()))
+            .build();
+        examCommandRepository.insert(previousExam);
+        examCommandRepository.insert(latestExam);
+        insertExamScoresData(previousExam.getId(), 30);
+        insertExamScoresData(latestExam.getId(), 60);
+
+        List<Ability> abilities = examQueryRepository.findAbilities(latestExam.getId(), "clientName", "ELA", 6666L);
+        assertThat(abilities).hasSize(1);
+        assertThat(abilities.get(0).getExamId()).isEqualTo(previousExam.getId());
+        assertThat(abilities.get(0).getAttempts()).isEqualTo(1);
+        assertThat(abilities.get(0).getScore()).isEqualTo(30.0);
+
+        List<Ability> allAbilities = examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 6666L);
+        assertThat(allAbilities).extracting(Ability::getExamId).containsExactly(latestExam.getId(), previousExam.getId());
+    }
+
+    @Test
+    public void shouldNotReturnAbilityForDeletedExam() {
+        Exam scoredExam = new ExamBuilder()
+            .withStudentId(7777L)
+            .withDateScored(Instant.now().minus(Minutes.minutes(5).toStandardDuration()))
+            .build();
+        examCommandRepository.insert(scoredExam);
+        insertExamScoresData(scoredExam.getId(), 42);
+
+        examCommandRepository.update(new Exam.Builder()
+            .fromExam(scoredExam)
+            .withDateDeleted(Instant.now())
+            .build());
+
+        assertThat(examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 7777L)).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnUpdatedScoreWhenScoresAreUpdated() {
+        Exam scoredExam = new ExamBuilder()
+            .withStudentId(8888L)
+            .withDateScored(Instant.now().minus(Minutes.minutes(5).toStandardDuration()))
+            .build();
+        examCommandRepository.insert(scoredExam);
+        insertExamScoresData(scoredExam.getId(), 42);
+
+        jdbcTemplate.update("UPDATE exam_scores SET value = 48 WHERE exam_id = :examId",
+            new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(scoredExam.getId())));
+
+        List<Ability> abilities = examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 8888L);
+        assertThat(abilities).hasSize(1);
+        assertThat(abilities.get(0).getScore()).isEqualTo(48.0);
+
+        jdbcTemplate.update("UPDATE exam_scores SET use_for_ability = 0 WHERE exam_id = :examId",
+            new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(scoredExam.getId())));
+
+        assertThat(examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 8888L)).isEmpty();
+    }
+
+    @Test
+    public void shouldNotReturnAbilityWhenScoresAreDeleted() {
+        Exam scoredExam = new ExamBuilder()
+            .withStudentId(8889L)
+            .withDateScored(Instant.now().minus(Minutes.minutes(5).toStandardDuration()))
+            .build();
+        examCommandRepository.insert(scoredExam);
+        insertExamScoresData(scoredExam.getId(), 42);
+
+        jdbcTemplate.update("DELETE FROM exam_scores WHERE exam_id = :examId",
+            new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(scoredExam.getId())));
+
+        assertThat(examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 8889L)).isEmpty();
+    }
+
+    @Test
+    public void shouldReturnAbilityOnceExamWithScoresIsScored() {
+        Exam exam = new ExamBuilder()
+            .withStudentId(8890L)
+            .withAttempts(1)
+            .build();
+        examCommandRepository.insert(exam);
+        insertExamScoresData(exam.getId(), 42);
+
+        assertThat(examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 8890L)).isEmpty();
+
+        examCommandRepository.update(new Exam.Builder()
+            .fromExam(exam)
+            .withDateScored(Instant.now())
+            .build());
+
+        List<Ability> abilities = examQueryRepository.findAbilities(UUID.randomUUID(), "clientName", "ELA", 8890L);
+        assertThat(abilities).hasSize(1);
+        assertThat(abilities.get(0).getExamId()).isEqualTo(exam.getId());
+        assertThat(abilities.get(0).getScore()).isEqualTo(42.0);
+    }
+
     @Test
     public void shouldGetAllExamsInASession() {
         List<Exam> exams = examQueryRepository.findAllExamsInSessionWithStatus(mockSessionId, statusesThatCanTransitionToPaused);
@@ -264,10 +449,10 @@ public class ExamQueryRepositoryImplIntegrationTests {
         assertThat(exams).isEmpty();
     }
 
-    private void insertExamScoresData() {
-        final SqlParameterSource parameters = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(currentExamId))
+    private void insertExamScoresData(UUID examId, double value) {
+        final SqlParameterSource parameters = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(examId))
             .addValue("measureLabel", "Measure-Label")
-            .addValue("value", 50)
+            .addValue("value", value)
             .addValue("measureOf", "measure-of")
             .addValue("useForAbility", 1);
 
@@ -278,4 +463,11 @@ public class ExamQueryRepositoryImplIntegrationTests {
 
         jdbcTemplate.update(SQL, parameters);
     }
+
+    private void updateExamCreatedAt(UUID examId, Instant createdAt) {
+        SqlParameterSource parameters = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(examId))
+            .addValue("createdAt", new Timestamp(createdAt.getMillis()));
+
+        jdbcTemplate.update("UPDATE exam SET created_at = :createdAt WHERE id = :examId", parameters);
+    }
 }
@@ -16,6 +16,7 @@ import java.util.Arrays;
 import tds.common.data.mysql.UuidAdapter;
 import tds.exam.Exam;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.models.ExamItemResponse;
 import tds.exam.repositories.ExamCommandRepository;
 import tds.exam.repositories.ExamResponseCommandRepository;
@@ -38,7 +39,8 @@ public class ExamResponseRepositoryIntegrationTests {
 
     @Before
     public void setUp() {
-        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate);
+        examCommandRepository = new ExamCommandRepositoryImpl(jdbcTemplate,
+            new ExamCache(new ExamServiceProperties(), new ExamStatusQueryRepositoryImpl(jdbcTemplate)));
         examResponseCommandRepository = new ExamResponseCommandRepositoryImpl(jdbcTemplate);
         examResponseQueryRepository = new ExamResponseQueryRepositoryImpl(jdbcTemplate);
     }
@@ -88,4 +90,33 @@ public class ExamResponseRepositoryIntegrationTests {
         int currentPosition = examResponseQueryRepository.getCurrentExamItemPosition(exam.getId());
         assertThat(currentPosition).isEqualTo(2);
     }
+
+    @Test
+    public void shouldResetItemPositionWhenPagesAreDeleted() {
+        Exam exam = new ExamBuilder().build();
+        examCommandRepository.insert(exam);
+
+        MapSqlParameterSource testParams = new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(exam.getId()));
+
+        final String insertPageSQL =
+            "INSERT INTO exam_page (id, page_position, item_group_key, exam_id) VALUES (805, 1, 'GroupKey1', :examId)";
+        final String insertPageEventSQL =
+            "INSERT INTO exam_page_event (exam_page_id, started_at) VALUES (805, now())";
+        final String insertItemSQL =
+            "INSERT INTO exam_item (id, item_key, exam_page_id, position, type, is_fieldtest, segment_id, is_required)" +
+            "VALUES (2112, 'item-1', 805, 1, 'MI', 0, 'seg-id', 0)";
+
+        jdbcTemplate.update(insertPageSQL, testParams);
+        jdbcTemplate.update(insertPageEventSQL, testParams);
+        jdbcTemplate.update(insertItemSQL, testParams);
+
+        examResponseCommandRepository.insert(Arrays.asList(new ExamItemResponse.Builder()
+            .withExamItemId(2112)
+            .withResponse("response1")
+            .build()));
+        assertThat(examResponseQueryRepository.getCurrentExamItemPosition(exam.getId())).isEqualTo(1);
+
+        new ExamPageCommandRepositoryImpl(jdbcTemplate).deleteAll(exam.getId());
+        assertThat(examResponseQueryRepository.getCurrentExamItemPosition(exam.getId())).isEqualTo(0);
+    }
 }
@@ -6,6 +6,7 @@ import org.junit.runner.RunWith;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -20,8 +22,10 @@ import java.util.Set;
 import java.util.UUID;
 
 import tds.assessment.Algorithm;
+import tds.common.data.mysql.UuidAdapter;
 import tds.exam.Exam;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.models.ExamSegment;
 import tds.exam.repositories.ExamCommandRepository;
 
@@ -47,7 +51,8 @@ public class ExamSegmentRepositoryImplIntegrationTests {
 
     @Before
     public void setUp() {
-        ExamCommandRepository examCommandRepository = new ExamCommandRepositoryImpl(commandJdbcTemplate);
+        ExamCommandRepository examCommandRepository = new ExamCommandRepositoryImpl(commandJdbcTemplate,
+            new ExamCache(new ExamServiceProperties(), new ExamStatusQueryRepositoryImpl(commandJdbcTemplate)));
         commandRepository = new ExamSegmentCommandRepositoryImpl(commandJdbcTemplate);
         queryRepository = new ExamSegmentQueryRepositoryImpl(commandJdbcTemplate);
 
@@ -395,4 +400,92 @@ public class ExamSegmentRepositoryImplIntegrationTests {
         assertThat(retSegment2.isPermeable()).isEqualTo(true);
         assertThat(retSegment2.isSatisfied()).isEqualTo(false);
     }
+
+    @Test
+    public void shouldKeepOneCurrentRowPerSegmentWithTheLatestValues() {
+        final UUID examId = exam.getId();
+        commandRepository.insert(Arrays.asList(
+            createSegment(examId, 1, false, false, "first condition", "item1"),
+            createSegment(examId, 2, false, false, "first condition", "item1")));
+
+        commandRepository.update(createSegment(examId, 1, true, false, "second condition", "item1", "item2"));
+        commandRepository.update(Arrays.asList(
+            createSegment(examId, 1, true, true, "third condition", "item1", "item2", "item3"),
+            createSegment(examId, 2, false, true, "second condition", "item4")));
+
+        assertThat(countRows("exam_segment_current", examId, 1)).isEqualTo(1);
+        assertThat(countRows("exam_segment_current", examId, 2)).isEqualTo(1);
+        // Every update is still recorded as an event
+        assertThat(countRows("exam_segment_event", examId, 1)).isEqualTo(3);
+        assertThat(countRows("exam_segment_event", examId, 2)).isEqualTo(2);
+
+        List<ExamSegment> retrievedSegments = queryRepository.findByExamId(examId);
+        assertThat(retrievedSegments).hasSize(2);
+
+        ExamSegment retSegment1 = retrievedSegments.get(0);
+        assertThat(retSegment1.getSegmentPosition()).isEqualTo(1);
+        assertThat(retSegment1.isSatisfied()).isTrue();
+        assertThat(retSegment1.isPermeable()).isTrue();
+        assertThat(retSegment1.getRestorePermeableCondition()).isEqualTo("third condition");
+        assertThat(retSegment1.getItemPool()).containsOnly("item1", "item2", "item3");
+
+        ExamSegment retSegment2 = retrievedSegments.get(1);
+        assertThat(retSegment2.getSegmentPosition()).isEqualTo(2);
+        assertThat(retSegment2.isSatisfied()).isFalse();
+        assertThat(retSegment2.isPermeable()).isTrue();
+        assertThat(retSegment2.getRestorePermeableCondition()).isEqualTo("second condition");
+        assertThat(retSegment2.getItemPool()).containsOnly("item4");
+
+        Optional<ExamSegment> maybeSegment = queryRepository.findByExamIdAndSegmentPosition(examId, 1);
+        assertThat(maybeSegment).isPresent();
+        assertThat(maybeSegment.get().getRestorePermeableCondition()).isEqualTo("third condition");
+        assertThat(maybeSegment.get().getItemPool()).containsOnly("item1", "item2", "item3");
+    }
+
+    @Test
+    public void shouldNotChangeOtherExamsCurrentSegments() {
+        commandRepository.insert(Arrays.asList(
+            createSegment(exam.getId(), 1, false, false, "condition", "item1"),
+            createSegment(otherExam.getId(), 1, false, false, "condition", "item1")));
+
+        commandRepository.update(createSegment(exam.getId(), 1, true, true, "new condition", "item2"));
+
+        Optional<ExamSegment> maybeOtherSegment = queryRepository.findByExamIdAndSegmentPosition(otherExam.getId(), 1);
+        assertThat(maybeOtherSegment).isPresent();
+        assertThat(maybeOtherSegment.get().isSatisfied()).isFalse();
+        assertThat(maybeOtherSegment.get().getRestorePermeableCondition()).isEqualTo("condition");
+        assertThat(maybeOtherSegment.get().getItemPool()).containsOnly("item1");
+    }
+
+    private int countRows(final String table, final UUID examId, final int segmentPosition) {
+        return commandJdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM " + table + " WHERE exam_id = :examId AND segment_position = :segmentPosition",
+            new MapSqlParameterSource("examId", UuidAdapter.getBytesFromUUID(examId))
+                .addValue("segmentPosition", segmentPosition),
+            Integer.class);
+    }
+
+    private static ExamSegment createSegment(final UUID examId, final int segmentPosition, final boolean satisfied,
+                                             final boolean permeable, final String condition, final String... items) {
+        Set<String> itemPool = new HashSet<>();
+        Collections.addAll(itemPool, items);
+
+        return new ExamSegment.Builder()
+            .withSegmentId("Segment-ID-" + segmentPosition)
+            .withSegmentKey("Segment-key-" + segmentPosition)
+            .withSegmentPosition(segmentPosition)
+            .withAlgorithm(Algorithm.FIXED_FORM)
+            .withExamId(examId)
+            .withExamItemCount(3)
+            .withFieldTestItemCount(0)
+            .withFormCohort("Default")
+            .withIsPermeable(permeable)
+            .withIsSatisfied(satisfied)
+            .withPoolCount(12)
+            .withItemPool(itemPool)
+            .withRestorePermeableCondition(condition)
+            .withFormKey("form-key-1")
+            .withFormId("form-id-1")
+            .build();
+    }
 }
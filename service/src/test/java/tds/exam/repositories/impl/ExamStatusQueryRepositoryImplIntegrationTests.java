@@ -45,4 +45,18 @@ public class ExamStatusQueryRepositoryImplIntegrationTests {
     public void shouldThrowIfStatusNotFound() {
         examStatusQueryRepository.findExamStatusCode("bogus");
     }
+
+    @Test
+    public void shouldReturnSameInstanceForRepeatedLookups() {
+        ExamStatusCode code = examStatusQueryRepository.findExamStatusCode("paused");
+
+        assertThat(examStatusQueryRepository.findExamStatusCode("paused")).isSameAs(code);
+    }
+
+    @Test
+    public void shouldFindStatusAfterReload() {
+        examStatusQueryRepository.reloadExamStatusCodes();
+
+        assertThat(examStatusQueryRepository.findExamStatusCode("started").getStage()).isEqualTo(ExamStatusStage.IN_USE);
+    }
 }
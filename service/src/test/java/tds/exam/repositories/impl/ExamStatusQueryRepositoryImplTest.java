@@ -0,0 +1,108 @@
+package tds.exam.repositories.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicLong;
+
+import tds.exam.ExamStatusCode;
+import tds.exam.ExamStatusStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ExamStatusQueryRepositoryImplTest {
+    private ExamStatusQueryRepositoryImpl examStatusQueryRepository;
+    private AtomicLong now;
+
+    @Mock
+    private NamedParameterJdbcTemplate mockJdbcTemplate;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        now = new AtomicLong(1000L);
+        examStatusQueryRepository = new ExamStatusQueryRepositoryImpl(mockJdbcTemplate, now::get);
+        when(mockJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenReturn(Collections.singletonList(new ExamStatusCode("started", ExamStatusStage.IN_USE)));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadStatusCodesOnFirstLookup() {
+        verify(mockJdbcTemplate, never()).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+
+        assertThat(examStatusQueryRepository.findExamStatusCode("started").getStage()).isEqualTo(ExamStatusStage.IN_USE);
+        assertThat(catchThrowable(() -> examStatusQueryRepository.findExamStatusCode("bogus")))
+            .isInstanceOf(EmptyResultDataAccessException.class);
+
+        // A miss right after the first read does not read the table again
+        verify(mockJdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReadStatusCodesAgainAfterFailedFirstRead() {
+        when(mockJdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+            .thenThrow(new CannotGetJdbcConnectionException("database is down", new SQLException()))
+            .thenReturn(Collections.singletonList(new ExamStatusCode("started", ExamStatusStage.IN_USE)));
+
+        assertThat(catchThrowable(() -> examStatusQueryRepository.findExamStatusCode("started")))
+            .isInstanceOf(CannotGetJdbcConnectionException.class);
+        assertThat(examStatusQueryRepository.findExamStatusCode("started").getStage()).isEqualTo(ExamStatusStage.IN_USE);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldOnlyReloadOnceForRepeatedUnknownCodes() {
+        examStatusQueryRepository.reloadExamStatusCodes();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(catchThrowable(() -> examStatusQueryRepository.findExamStatusCode("bogus")))
+                .isInstanceOf(EmptyResultDataAccessException.class);
+        }
+
+        // The initial load plus a single reload for the first miss
+        verify(mockJdbcTemplate, times(2)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldReloadForUnknownCodeAgainAfterInterval() {
+        examStatusQueryRepository.reloadExamStatusCodes();
+
+        catchThrowable(() -> examStatusQueryRepository.findExamStatusCode("bogus"));
+        now.addAndGet(ExamStatusQueryRepositoryImpl.MISS_RELOAD_INTERVAL_MILLIS);
+        catchThrowable(() -> examStatusQueryRepository.findExamStatusCode("bogus"));
+
+        verify(mockJdbcTemplate, times(3)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldNotReloadForKnownCodes() {
+        examStatusQueryRepository.reloadExamStatusCodes();
+
+        assertThat(examStatusQueryRepository.findExamStatusCode("started").getStage()).isEqualTo(ExamStatusStage.IN_USE);
+        assertThat(examStatusQueryRepository.findExamStatusCode("started").getStage()).isEqualTo(ExamStatusStage.IN_USE);
+
+        verify(mockJdbcTemplate, times(1)).query(anyString(), any(SqlParameterSource.class), any(RowMapper.class));
+    }
+}
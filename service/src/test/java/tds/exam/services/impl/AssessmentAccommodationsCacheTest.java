@@ -0,0 +1,81 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import tds.config.Accommodation;
+import tds.exam.builder.AccommodationBuilder;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.AssessmentAccommodations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AssessmentAccommodationsCacheTest {
+    private AssessmentAccommodationsCache assessmentAccommodationsCache;
+
+    @Mock
+    private ConfigServiceImpl mockConfigService;
+
+    @Before
+    public void setUp() {
+        assessmentAccommodationsCache = new AssessmentAccommodationsCache(mockConfigService, new ExamServiceProperties());
+    }
+
+    @Test
+    public void shouldOnlyFetchAssessmentAccommodationsOnce() {
+        AssessmentAccommodations accommodations = new AssessmentAccommodations(Collections.emptyList());
+        when(mockConfigService.findAssessmentAccommodations("SBAC_PT", "key")).thenReturn(accommodations);
+
+        assessmentAccommodationsCache.get("SBAC_PT", "key");
+        AssessmentAccommodations cachedAccommodations = assessmentAccommodationsCache.get("SBAC_PT", "key");
+
+        assertThat(cachedAccommodations).isSameAs(accommodations);
+        verify(mockConfigService, times(1)).findAssessmentAccommodations("SBAC_PT", "key");
+        assertThat(assessmentAccommodationsCache.getCacheStatistics().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFetchAssessmentAccommodationsAgainAfterEviction() {
+        when(mockConfigService.findAssessmentAccommodations("SBAC_PT", "key"))
+            .thenReturn(new AssessmentAccommodations(Collections.emptyList()));
+
+        assessmentAccommodationsCache.get("SBAC_PT", "key");
+        assessmentAccommodationsCache.evictAll();
+        assessmentAccommodationsCache.get("SBAC_PT", "key");
+
+        verify(mockConfigService, times(2)).findAssessmentAccommodations("SBAC_PT", "key");
+        assertThat(assessmentAccommodationsCache.getCacheName()).isEqualTo("assessment-accommodations");
+    }
+
+    @Test
+    public void shouldIndexAccommodationsBySegmentPositionAndCode() {
+        Accommodation english = new AccommodationBuilder().withCode("ENU").withSegmentPosition(1).build();
+        Accommodation englishSecondSegment = new AccommodationBuilder().withCode("ENU").withSegmentPosition(2).build();
+        Accommodation french = new AccommodationBuilder().withCode("FRN").withSegmentPosition(1).build();
+        Accommodation defaultAccommodation = new AccommodationBuilder()
+            .withCode("TDS_BT0")
+            .withSegmentPosition(1)
+            .withDefaultAccommodation(true)
+            .withDependsOnToolType(null)
+            .build();
+        when(mockConfigService.findAssessmentAccommodations("SBAC_PT", "key"))
+            .thenReturn(new AssessmentAccommodations(Arrays.asList(english, englishSecondSegment, french, defaultAccommodation)));
+
+        AssessmentAccommodations accommodations = assessmentAccommodationsCache.get("SBAC_PT", "key");
+
+        assertThat(accommodations.getAccommodations()).hasSize(4);
+        assertThat(accommodations.findAccommodations(1, Arrays.asList("ENU", "ESN"))).containsExactly(english);
+        assertThat(accommodations.findAccommodations(3, Collections.singletonList("ENU"))).isEmpty();
+        assertThat(accommodations.getDefaultAccommodations()).contains(defaultAccommodation);
+    }
+}
@@ -0,0 +1,62 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.config.ClientSystemFlag;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncConfigService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncConfigServiceImplTest {
+    private static final String BASE_URL = "http://localhost:8080/config";
+    private static final String FLAG_URL = BASE_URL + "/client-system-flags/SBAC_PT/AnonymousTestee";
+
+    private AsyncConfigService asyncConfigService;
+
+    @Mock
+    private AsyncRestTemplate asyncRestTemplate;
+
+    @Before
+    public void setUp() {
+        ExamServiceProperties properties = new ExamServiceProperties();
+        properties.setConfigUrl(BASE_URL);
+        asyncConfigService = new AsyncConfigServiceImpl(asyncRestTemplate, properties);
+    }
+
+    @Test
+    public void shouldCompleteWithClientSystemFlagOnceResponseArrives() {
+        ClientSystemFlag flag = new ClientSystemFlag.Builder().withAuditObject("AnonymousTestee").build();
+        SettableListenableFuture<ResponseEntity<ClientSystemFlag>> response = new SettableListenableFuture<>();
+        when(asyncRestTemplate.getForEntity(FLAG_URL, ClientSystemFlag.class)).thenReturn(response);
+
+        CompletableFuture<Optional<ClientSystemFlag>> maybeFlag = asyncConfigService.findClientSystemFlag("SBAC_PT", "AnonymousTestee");
+        assertThat(maybeFlag.isDone()).isFalse();
+
+        response.set(new ResponseEntity<>(flag, HttpStatus.OK));
+        assertThat(maybeFlag.join()).contains(flag);
+    }
+
+    @Test
+    public void shouldCompleteEmptyWhenFlagIsNotFound() {
+        SettableListenableFuture<ResponseEntity<ClientSystemFlag>> response = new SettableListenableFuture<>();
+        response.setException(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(asyncRestTemplate.getForEntity(FLAG_URL, ClientSystemFlag.class)).thenReturn(response);
+
+        assertThat(asyncConfigService.findClientSystemFlag("SBAC_PT", "AnonymousTestee").join()).isNotPresent();
+    }
+}
@@ -0,0 +1,97 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import tds.exam.caching.RequestLookupMemo;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncSessionService;
+import tds.session.Session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncSessionServiceImplTest {
+    private static final String BASE_URL = "http://localhost:8080/session";
+
+    private AsyncSessionService asyncSessionService;
+
+    @Mock
+    private AsyncRestTemplate asyncRestTemplate;
+
+    @Before
+    public void setUp() {
+        ExamServiceProperties properties = new ExamServiceProperties();
+        properties.setSessionUrl(BASE_URL);
+        asyncSessionService = new AsyncSessionServiceImpl(asyncRestTemplate, properties);
+    }
+
+    @Test
+    public void shouldCompleteWithSessionOnceResponseArrives() {
+        UUID sessionId = UUID.randomUUID();
+        Session session = new Session.Builder()
+            .withId(sessionId)
+            .build();
+        SettableListenableFuture<ResponseEntity<Session>> response = new SettableListenableFuture<>();
+        when(asyncRestTemplate.getForEntity(String.format("%s/%s", BASE_URL, sessionId), Session.class)).thenReturn(response);
+
+        CompletableFuture<Optional<Session>> maybeSession = asyncSessionService.findSessionById(sessionId);
+        assertThat(maybeSession.isDone()).isFalse();
+
+        response.set(new ResponseEntity<>(session, HttpStatus.OK));
+        assertThat(maybeSession.join().get().getId()).isEqualTo(sessionId);
+    }
+
+    @Test
+    public void shouldCompleteEmptyWhenStatusIsNotFound() {
+        UUID sessionId = UUID.randomUUID();
+        SettableListenableFuture<ResponseEntity<Session>> response = new SettableListenableFuture<>();
+        response.setException(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(asyncRestTemplate.getForEntity(String.format("%s/%s", BASE_URL, sessionId), Session.class)).thenReturn(response);
+
+        assertThat(asyncSessionService.findSessionById(sessionId).join()).isNotPresent();
+    }
+
+    @Test(expected = CompletionException.class)
+    public void shouldCompleteExceptionallyWhenStatusIsNotNotFound() {
+        UUID sessionId = UUID.randomUUID();
+        SettableListenableFuture<ResponseEntity<Session>> response = new SettableListenableFuture<>();
+        response.setException(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        when(asyncRestTemplate.getForEntity(String.format("%s/%s", BASE_URL, sessionId), Session.class)).thenReturn(response);
+
+        asyncSessionService.findSessionById(sessionId).join();
+    }
+
+    @Test
+    public void shouldRequestSessionOnceWithinRequest() {
+        UUID sessionId = UUID.randomUUID();
+        SettableListenableFuture<ResponseEntity<Session>> response = new SettableListenableFuture<>();
+        response.set(new ResponseEntity<>(new Session.Builder().withId(sessionId).build(), HttpStatus.OK));
+        when(asyncRestTemplate.getForEntity(String.format("%s/%s", BASE_URL, sessionId), Session.class)).thenReturn(response);
+
+        RequestLookupMemo memo = new RequestLookupMemo();
+        memo.bind(() -> {
+            asyncSessionService.findSessionById(sessionId).join();
+            asyncSessionService.findSessionById(sessionId).join();
+        }).run();
+
+        verify(asyncRestTemplate, times(1)).getForEntity(String.format("%s/%s", BASE_URL, sessionId), Session.class);
+        assertThat(memo.getCallsSaved()).isEqualTo(1);
+    }
+}
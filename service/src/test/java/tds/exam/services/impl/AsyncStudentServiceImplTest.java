@@ -0,0 +1,71 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.concurrent.SettableListenableFuture;
+import org.springframework.web.client.AsyncRestTemplate;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AsyncStudentService;
+import tds.student.Student;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncStudentServiceImplTest {
+    private static final String BASE_URL = "http://localhost:8080/students";
+
+    private AsyncStudentService asyncStudentService;
+
+    @Mock
+    private AsyncRestTemplate asyncRestTemplate;
+
+    @Before
+    public void setUp() {
+        ExamServiceProperties properties = new ExamServiceProperties();
+        properties.setStudentUrl(BASE_URL);
+        asyncStudentService = new AsyncStudentServiceImpl(asyncRestTemplate, properties);
+    }
+
+    @Test
+    public void shouldCompleteWithStudentOnceResponseArrives() {
+        Student student = new Student(1, "testId", "CA", "clientName");
+        SettableListenableFuture<ResponseEntity<Student>> response = new SettableListenableFuture<>();
+        when(asyncRestTemplate.getForEntity(BASE_URL + "/1", Student.class)).thenReturn(response);
+
+        CompletableFuture<Optional<Student>> maybeStudent = asyncStudentService.getStudentById(1);
+        assertThat(maybeStudent.isDone()).isFalse();
+
+        response.set(new ResponseEntity<>(student, HttpStatus.OK));
+        assertThat(maybeStudent.join()).contains(student);
+    }
+
+    @Test
+    public void shouldCompleteEmptyWhenStatusIsNotFound() {
+        SettableListenableFuture<ResponseEntity<Student>> response = new SettableListenableFuture<>();
+        response.setException(new HttpClientErrorException(HttpStatus.NOT_FOUND));
+        when(asyncRestTemplate.getForEntity(BASE_URL + "/1", Student.class)).thenReturn(response);
+
+        assertThat(asyncStudentService.getStudentById(1).join()).isNotPresent();
+    }
+
+    @Test(expected = CompletionException.class)
+    public void shouldCompleteExceptionallyWhenStatusIsNotNotFound() {
+        SettableListenableFuture<ResponseEntity<Student>> response = new SettableListenableFuture<>();
+        response.setException(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+        when(asyncRestTemplate.getForEntity(BASE_URL + "/1", Student.class)).thenReturn(response);
+
+        asyncStudentService.getStudentById(1).join();
+    }
+}
@@ -0,0 +1,136 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import tds.assessment.Assessment;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AssessmentService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingAssessmentServiceTest {
+    private CachingAssessmentService cachingAssessmentService;
+
+    @Mock
+    private AssessmentService mockAssessmentService;
+
+    @Before
+    public void setUp() {
+        cachingAssessmentService = new CachingAssessmentService(mockAssessmentService, new ExamServiceProperties());
+    }
+
+    @Test
+    public void shouldOnlyFetchAnAssessmentOnce() {
+        Assessment assessment = new Assessment();
+        assessment.setKey("key");
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key")).thenReturn(Optional.of(assessment));
+
+        cachingAssessmentService.findAssessment("SBAC_PT", "key");
+        Optional<Assessment> maybeAssessment = cachingAssessmentService.findAssessment("SBAC_PT", "key");
+
+        assertThat(maybeAssessment).contains(assessment);
+        verify(mockAssessmentService, times(1)).findAssessment("SBAC_PT", "key");
+
+        CacheStatistics statistics = cachingAssessmentService.getCacheStatistics();
+        assertThat(statistics.getName()).isEqualTo("assessments");
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCacheAssessmentsPerClient() {
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key")).thenReturn(Optional.of(new Assessment()));
+        when(mockAssessmentService.findAssessment("SBAC", "key")).thenReturn(Optional.empty());
+
+        assertThat(cachingAssessmentService.findAssessment("SBAC_PT", "key")).isPresent();
+        assertThat(cachingAssessmentService.findAssessment("SBAC", "key")).isNotPresent();
+
+        verify(mockAssessmentService).findAssessment("SBAC_PT", "key");
+        verify(mockAssessmentService).findAssessment("SBAC", "key");
+    }
+
+    @Test
+    public void shouldNotCacheMissingAssessments() {
+        Assessment assessment = new Assessment();
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key"))
+            .thenReturn(Optional.empty())
+            .thenReturn(Optional.of(assessment));
+
+        assertThat(cachingAssessmentService.findAssessment("SBAC_PT", "key")).isNotPresent();
+        assertThat(cachingAssessmentService.findAssessment("SBAC_PT", "key")).contains(assessment);
+
+        verify(mockAssessmentService, times(2)).findAssessment("SBAC_PT", "key");
+        assertThat(cachingAssessmentService.getCacheStatistics().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFetchAssessmentAgainAfterEviction() {
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key")).thenReturn(Optional.of(new Assessment()));
+
+        cachingAssessmentService.findAssessment("SBAC_PT", "key");
+        cachingAssessmentService.evictAll();
+        cachingAssessmentService.findAssessment("SBAC_PT", "key");
+
+        verify(mockAssessmentService, times(2)).findAssessment("SBAC_PT", "key");
+        assertThat(cachingAssessmentService.getCacheName()).isEqualTo("assessments");
+    }
+
+    @Test
+    public void shouldShareAnInFlightFetch() throws Exception {
+        CountDownLatch fetchStarted = new CountDownLatch(1);
+        CountDownLatch releaseFetch = new CountDownLatch(1);
+        Assessment assessment = new Assessment();
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key")).thenAnswer(invocation -> {
+            fetchStarted.countDown();
+            releaseFetch.await(5, TimeUnit.SECONDS);
+            return Optional.of(assessment);
+        });
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Optional<Assessment>>> lookups = new ArrayList<>();
+            lookups.add(executorService.submit(() -> cachingAssessmentService.findAssessment("SBAC_PT", "key")));
+            assertThat(fetchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 3; i++) {
+                lookups.add(executorService.submit(() -> cachingAssessmentService.findAssessment("SBAC_PT", "key")));
+            }
+            releaseFetch.countDown();
+
+            for (Future<Optional<Assessment>> lookup : lookups) {
+                assertThat(lookup.get(5, TimeUnit.SECONDS)).contains(assessment);
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        verify(mockAssessmentService, times(1)).findAssessment("SBAC_PT", "key");
+    }
+
+    @Test(expected = HttpServerErrorException.class)
+    public void shouldThrowWhenTheFetchFails() {
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key"))
+            .thenThrow(new HttpServerErrorException(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        cachingAssessmentService.findAssessment("SBAC_PT", "key");
+    }
+}
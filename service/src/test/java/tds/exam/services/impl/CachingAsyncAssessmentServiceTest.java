@@ -0,0 +1,61 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import tds.assessment.Assessment;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.AssessmentService;
+import tds.exam.services.AsyncAssessmentService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingAsyncAssessmentServiceTest {
+    private CachingAssessmentService cachingAssessmentService;
+    private CachingAsyncAssessmentService cachingAsyncAssessmentService;
+
+    @Mock
+    private AssessmentService mockAssessmentService;
+
+    @Mock
+    private AsyncAssessmentService mockAsyncAssessmentService;
+
+    @Before
+    public void setUp() {
+        cachingAssessmentService = new CachingAssessmentService(mockAssessmentService, new ExamServiceProperties());
+        cachingAsyncAssessmentService = new CachingAsyncAssessmentService(cachingAssessmentService, mockAsyncAssessmentService);
+    }
+
+    @Test
+    public void shouldAnswerFromCacheWithoutRequestingAssessment() {
+        Assessment assessment = new Assessment();
+        when(mockAssessmentService.findAssessment("SBAC_PT", "key")).thenReturn(Optional.of(assessment));
+        cachingAssessmentService.findAssessment("SBAC_PT", "key");
+
+        assertThat(cachingAsyncAssessmentService.findAssessment("SBAC_PT", "key").join()).contains(assessment);
+        verifyZeroInteractions(mockAsyncAssessmentService);
+    }
+
+    @Test
+    public void shouldRequestMissingAssessmentAndCacheIt() {
+        Assessment assessment = new Assessment();
+        when(mockAsyncAssessmentService.findAssessment("SBAC_PT", "key"))
+            .thenReturn(CompletableFuture.completedFuture(Optional.of(assessment)));
+
+        assertThat(cachingAsyncAssessmentService.findAssessment("SBAC_PT", "key").join()).contains(assessment);
+        assertThat(cachingAssessmentService.findAssessment("SBAC_PT", "key")).contains(assessment);
+
+        verify(mockAsyncAssessmentService).findAssessment("SBAC_PT", "key");
+        verifyZeroInteractions(mockAssessmentService);
+    }
+}
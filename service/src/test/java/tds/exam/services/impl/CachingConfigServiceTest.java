@@ -0,0 +1,90 @@
+package tds.exam.services.impl;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import tds.config.ClientSystemFlag;
+import tds.exam.configuration.ExamServiceProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static tds.config.ClientSystemFlag.ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE;
+import static tds.config.ClientSystemFlag.RESTORE_ACCOMMODATIONS_TYPE;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingConfigServiceTest {
+    private CachingConfigService cachingConfigService;
+
+    @Mock
+    private ConfigServiceImpl mockConfigService;
+
+    @Mock
+    private AssessmentAccommodationsCache mockAssessmentAccommodationsCache;
+
+    @Before
+    public void setUp() {
+        cachingConfigService = new CachingConfigService(mockConfigService, mockAssessmentAccommodationsCache,
+            new ExamServiceProperties(), MoreExecutors.directExecutor());
+    }
+
+    @Test
+    public void shouldOnlyFetchAFlagOnce() {
+        ClientSystemFlag allowAnonymous = new ClientSystemFlag.Builder()
+            .withAuditObject(ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE)
+            .withEnabled(true)
+            .build();
+        when(mockConfigService.findClientSystemFlag("SBAC_PT", ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE.toLowerCase()))
+            .thenReturn(Optional.of(allowAnonymous));
+
+        cachingConfigService.findClientSystemFlag("SBAC_PT", ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE);
+        Optional<ClientSystemFlag> maybeAllowAnonymous = cachingConfigService.findClientSystemFlag("SBAC_PT",
+            ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE.toUpperCase());
+
+        assertThat(maybeAllowAnonymous).contains(allowAnonymous);
+        verify(mockConfigService, times(1)).findClientSystemFlag(anyString(), anyString());
+    }
+
+    @Test
+    public void shouldAnswerAbsentFlagFromMemory() {
+        when(mockConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE.toLowerCase()))
+            .thenReturn(Optional.empty());
+
+        cachingConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE);
+        Optional<ClientSystemFlag> maybeFlag = cachingConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE);
+
+        assertThat(maybeFlag).isNotPresent();
+        verify(mockConfigService, times(1)).findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE.toLowerCase());
+    }
+
+    @Test
+    public void shouldCacheFlagsPerClient() {
+        when(mockConfigService.findClientSystemFlag(anyString(), anyString())).thenReturn(Optional.empty());
+
+        cachingConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE);
+        cachingConfigService.findClientSystemFlag("SBAC", RESTORE_ACCOMMODATIONS_TYPE);
+
+        verify(mockConfigService).findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE.toLowerCase());
+        verify(mockConfigService).findClientSystemFlag("SBAC", RESTORE_ACCOMMODATIONS_TYPE.toLowerCase());
+    }
+
+    @Test
+    public void shouldFetchFlagsAgainAfterEviction() {
+        when(mockConfigService.findClientSystemFlag(anyString(), anyString())).thenReturn(Optional.empty());
+
+        cachingConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE);
+        cachingConfigService.evictAll();
+        cachingConfigService.findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE);
+
+        verify(mockConfigService, times(2)).findClientSystemFlag("SBAC_PT", RESTORE_ACCOMMODATIONS_TYPE.toLowerCase());
+        assertThat(cachingConfigService.getCacheName()).isEqualTo("client-system-flags");
+    }
+}
@@ -0,0 +1,67 @@
+package tds.exam.services.impl;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import tds.exam.configuration.ExamServiceProperties;
+import tds.session.ExternalSessionConfiguration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingSessionServiceTest {
+    private CachingSessionService cachingSessionService;
+
+    @Mock
+    private SessionServiceImpl mockSessionService;
+
+    @Before
+    public void setUp() {
+        cachingSessionService = new CachingSessionService(mockSessionService, new ExamServiceProperties(), MoreExecutors.directExecutor());
+    }
+
+    @Test
+    public void shouldOnlyFetchExternalSessionConfigurationOnce() {
+        ExternalSessionConfiguration configuration = new ExternalSessionConfiguration("SBAC_PT", "SIMULATION", 0, 0, 0, 0);
+        when(mockSessionService.findExternalSessionConfigurationByClientName("SBAC_PT")).thenReturn(Optional.of(configuration));
+
+        cachingSessionService.findExternalSessionConfigurationByClientName("SBAC_PT");
+        Optional<ExternalSessionConfiguration> maybeConfiguration = cachingSessionService.findExternalSessionConfigurationByClientName("SBAC_PT");
+
+        assertThat(maybeConfiguration).contains(configuration);
+        verify(mockSessionService, times(1)).findExternalSessionConfigurationByClientName("SBAC_PT");
+        assertThat(cachingSessionService.getCacheStatistics().getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFetchExternalSessionConfigurationAgainAfterEviction() {
+        when(mockSessionService.findExternalSessionConfigurationByClientName("SBAC_PT")).thenReturn(Optional.empty());
+
+        cachingSessionService.findExternalSessionConfigurationByClientName("SBAC_PT");
+        cachingSessionService.evictAll();
+        cachingSessionService.findExternalSessionConfigurationByClientName("SBAC_PT");
+
+        verify(mockSessionService, times(2)).findExternalSessionConfigurationByClientName("SBAC_PT");
+        assertThat(cachingSessionService.getCacheName()).isEqualTo("external-session-configurations");
+    }
+
+    @Test
+    public void shouldNotCacheSessions() {
+        UUID sessionId = UUID.randomUUID();
+
+        cachingSessionService.findSessionById(sessionId);
+        cachingSessionService.findSessionById(sessionId);
+
+        verify(mockSessionService, times(2)).findSessionById(sessionId);
+    }
+}
@@ -0,0 +1,87 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Optional;
+
+import tds.config.TimeLimitConfiguration;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.configuration.ExamServiceProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CachingTimeLimitConfigurationServiceTest {
+    private CachingTimeLimitConfigurationService cachingTimeLimitConfigurationService;
+
+    @Mock
+    private TimeLimitConfigurationServiceImpl mockTimeLimitConfigurationService;
+
+    @Before
+    public void setUp() {
+        cachingTimeLimitConfigurationService = new CachingTimeLimitConfigurationService(mockTimeLimitConfigurationService,
+            new ExamServiceProperties());
+    }
+
+    @Test
+    public void shouldOnlyFetchTimeLimitConfigurationOnce() {
+        TimeLimitConfiguration configuration = new TimeLimitConfiguration.Builder().withExamDelayDays(0).build();
+        when(mockTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId"))
+            .thenReturn(Optional.of(configuration));
+
+        cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+        Optional<TimeLimitConfiguration> maybeConfiguration =
+            cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+
+        assertThat(maybeConfiguration).contains(configuration);
+        verify(mockTimeLimitConfigurationService, times(1)).findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+    }
+
+    @Test
+    public void shouldCacheMissingTimeLimitConfiguration() {
+        when(mockTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId"))
+            .thenReturn(Optional.empty());
+
+        cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+        Optional<TimeLimitConfiguration> maybeConfiguration =
+            cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+
+        assertThat(maybeConfiguration).isNotPresent();
+        verify(mockTimeLimitConfigurationService, times(1)).findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+    }
+
+    @Test
+    public void shouldReportSavedRequestsAsHits() {
+        when(mockTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId"))
+            .thenReturn(Optional.empty());
+
+        for (int i = 0; i < 3; i++) {
+            cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+        }
+
+        CacheStatistics statistics = cachingTimeLimitConfigurationService.getCacheStatistics();
+        assertThat(statistics.getName()).isEqualTo("time-limit-configurations");
+        assertThat(statistics.getHitCount()).isEqualTo(2);
+        assertThat(statistics.getLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldFetchTimeLimitConfigurationAgainAfterEviction() {
+        when(mockTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId"))
+            .thenReturn(Optional.empty());
+
+        cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+        cachingTimeLimitConfigurationService.evictAll();
+        cachingTimeLimitConfigurationService.findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+
+        verify(mockTimeLimitConfigurationService, times(2)).findTimeLimitConfiguration("SBAC_PT", "assessmentId");
+        assertThat(cachingTimeLimitConfigurationService.getCacheName()).isEqualTo("time-limit-configurations");
+    }
+}
@@ -0,0 +1,52 @@
+package tds.exam.services.impl;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class CompletableFuturesTest {
+    @Test
+    public void shouldReturnResultOfCompletedFuture() {
+        assertThat(CompletableFutures.join(CompletableFuture.completedFuture("result"))).isEqualTo("result");
+    }
+
+    @Test
+    public void shouldThrowRuntimeExceptionOfFailedWork() {
+        IllegalArgumentException failure = new IllegalArgumentException("failed");
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
+            throw failure;
+        });
+
+        assertThat(catchThrowable(() -> CompletableFutures.join(future))).isSameAs(failure);
+    }
+
+    @Test
+    public void shouldKeepCheckedExceptionWrapped() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+        future.completeExceptionally(new IOException("failed"));
+
+        Throwable thrown = catchThrowable(() -> CompletableFutures.join(future));
+
+        assertThat(thrown).isInstanceOf(CompletionException.class);
+        assertThat(thrown.getCause()).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void shouldCompleteNormallyOnceAllFuturesCompleteEvenIfOneFails() {
+        CompletableFuture<String> succeeding = new CompletableFuture<>();
+        CompletableFuture<String> failing = new CompletableFuture<>();
+        CompletableFuture<Void> allCompleted = CompletableFutures.allCompleted(succeeding, failing);
+
+        failing.completeExceptionally(new IllegalStateException("failed"));
+        assertThat(allCompleted.isDone()).isFalse();
+
+        succeeding.complete("result");
+        assertThat(allCompleted.isDone()).isTrue();
+        assertThat(allCompleted.isCompletedExceptionally()).isFalse();
+    }
+}
@@ -22,6 +22,7 @@ import tds.exam.builder.AccommodationBuilder;
 import tds.exam.builder.AssessmentBuilder;
 import tds.exam.builder.ExamAccommodationBuilder;
 import tds.exam.builder.ExamBuilder;
+import tds.exam.models.AssessmentAccommodations;
 import tds.exam.repositories.ExamAccommodationCommandRepository;
 import tds.exam.repositories.ExamAccommodationQueryRepository;
 import tds.exam.services.ConfigService;
@@ -138,7 +139,8 @@ public class ExamAccommodationServiceImplTest {
             .withDependsOnToolType("dependingSoCool")
             .build();
 
-        when(mockConfigService.findAssessmentAccommodationsByAssessmentKey(exam.getClientName(), exam.getAssessmentKey())).thenReturn(Arrays.asList(accommodation, nonDefaultAccommodation, dependsOnToolTypeAccommodation));
+        when(mockConfigService.findAssessmentAccommodations(exam.getClientName(), exam.getAssessmentKey()))
+            .thenReturn(new AssessmentAccommodations(Arrays.asList(accommodation, nonDefaultAccommodation, dependsOnToolTypeAccommodation)));
         examAccommodationService.initializeExamAccommodations(exam);
         verify(mockExamAccommodationCommandRepository).insert(examAccommodationInsertCaptor.capture());
 
@@ -244,7 +246,7 @@ public class ExamAccommodationServiceImplTest {
             .build();
 
 
-        when(mockConfigService.findAssessmentAccommodationsByAssessmentKey(exam.getClientName(), assessment.getKey())).thenReturn(assessmentAccommodations);
+        when(mockConfigService.findAssessmentAccommodations(exam.getClientName(), assessment.getKey())).thenReturn(new AssessmentAccommodations(assessmentAccommodations));
         when(mockExamAccommodationQueryRepository.findAccommodations(exam.getId())).thenReturn(Arrays.asList(existingFrenchExamAccommodation, existingEnglishExamAccommodation));
 
         examAccommodationService.initializeAccommodationsOnPreviousExam(exam, assessment, 0, false, guestAccommodations);
@@ -1,5 +1,6 @@
 package tds.exam.services.impl;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -9,27 +10,39 @@ import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 import tds.assessment.Algorithm;
 import tds.assessment.Assessment;
 import tds.assessment.Form;
 import tds.assessment.Item;
+import tds.assessment.ItemConstraint;
 import tds.assessment.Segment;
 import tds.exam.Exam;
+import tds.exam.ExamAccommodation;
 import tds.exam.builder.AssessmentBuilder;
+import tds.exam.builder.ExamAccommodationBuilder;
 import tds.exam.builder.ExamBuilder;
 import tds.exam.builder.SegmentBuilder;
 import tds.exam.models.ExamSegment;
 import tds.exam.models.SegmentPoolInfo;
 import tds.exam.repositories.ExamSegmentCommandRepository;
+import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.FieldTestService;
 import tds.exam.services.FormSelector;
 import tds.exam.services.SegmentPoolService;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -49,13 +62,21 @@ public class ExamSegmentServiceImplTest {
     @Mock
     private FormSelector mockFormSelector;
 
+    @Mock
+    private ExamAccommodationService mockExamAccommodationService;
+
     @Captor
     private ArgumentCaptor<List<ExamSegment>> examSegmentCaptor;
 
+    private List<ExamAccommodation> examAccommodations;
+
     @Before
     public void setUp() {
         examSegmentService = new ExamSegmentServiceImpl(mockExamSegmentCommandRepository,
-            mockSegmentPoolService, mockFormSelector, mockFieldTestService);
+            mockSegmentPoolService, mockFormSelector, mockFieldTestService, mockExamAccommodationService,
+            MoreExecutors.directExecutor());
+        examAccommodations = Collections.singletonList(new ExamAccommodationBuilder().build());
+        when(mockExamAccommodationService.findAllAccommodations(any(UUID.class))).thenReturn(examAccommodations);
     }
 
     @Test(expected = IllegalStateException.class)
@@ -72,7 +93,7 @@ public class ExamSegmentServiceImplTest {
         // Empty segment pool should result in an error
         SegmentPoolInfo segmentPoolInfo = new SegmentPoolInfo(0, 0, new HashSet<>());
 
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language)).thenReturn(segmentPoolInfo);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment.getKey(), language))
             .thenReturn(true);
@@ -95,7 +116,7 @@ public class ExamSegmentServiceImplTest {
         // Empty segment pool should result in an error
         SegmentPoolInfo segmentPoolInfo = new SegmentPoolInfo(0, 0, new HashSet<>());
 
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language)).thenReturn(segmentPoolInfo);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment.getKey(), language))
             .thenReturn(true);
@@ -169,7 +190,7 @@ public class ExamSegmentServiceImplTest {
             )));
 
         // Adaptive Segment w/ field test items
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment1, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment1, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo1);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment1.getKey(), language))
@@ -180,7 +201,7 @@ public class ExamSegmentServiceImplTest {
         int totalItems = examSegmentService.initializeExamSegments(exam, assessment);
         assertThat(totalItems).isEqualTo(8);
         // ExamSeg 1
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment1, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment1, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment1.getKey(), language);
         verify(mockFieldTestService).selectItemGroups(exam, assessment, segment1.getKey(), language);
@@ -249,13 +270,13 @@ public class ExamSegmentServiceImplTest {
             new HashSet<>());
 
         // ExamSeg 1
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment1, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment1, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo1);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment1.getKey(), language))
             .thenReturn(false);
         // ExamSeg 2
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment2, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment2, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo2);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment2.getKey(), language))
@@ -264,13 +285,15 @@ public class ExamSegmentServiceImplTest {
         int totalItems = examSegmentService.initializeExamSegments(exam, assessment);
         assertThat(totalItems).isEqualTo(segmentPoolInfo1.getPoolCount());
         // ExamSeg 1
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment1, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment1, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment1.getKey(), language);
         // ExamSeg 2
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment2, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment2, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment2.getKey(), language);
+        // The accommodations are read once for both adaptive segments
+        verify(mockExamAccommodationService).findAllAccommodations(exam.getId());
 
         verify(mockExamSegmentCommandRepository).insert(examSegmentCaptor.capture());
         List<ExamSegment> examSegments = examSegmentCaptor.getValue();
@@ -354,14 +377,14 @@ public class ExamSegmentServiceImplTest {
                 new Item("item-4")
             )));
 
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment.getKey(), language))
             .thenReturn(false);
         int totalItems = examSegmentService.initializeExamSegments(exam, assessment);
         assertThat(totalItems).isEqualTo(segmentPoolInfo.getPoolCount());
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment.getKey(), language);
 
@@ -401,14 +424,14 @@ public class ExamSegmentServiceImplTest {
                 new Item("item-4")
             )));
 
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment.getKey(), language))
             .thenReturn(true);
         int totalItems = examSegmentService.initializeExamSegments(exam, assessment);
         assertThat(totalItems).isEqualTo(segmentPoolInfo.getPoolCount());
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment.getKey(), language);
 
@@ -539,7 +562,7 @@ public class ExamSegmentServiceImplTest {
                 new Item("item-4")
             )));
 
-        when(mockSegmentPoolService.computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        when(mockSegmentPoolService.computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language))
             .thenReturn(segmentPoolInfo);
         when(mockFieldTestService.isFieldTestEligible(exam, assessment, segment.getKey(), language))
@@ -548,7 +571,7 @@ public class ExamSegmentServiceImplTest {
             .thenReturn(2);
         int totalItems = examSegmentService.initializeExamSegments(exam, assessment);
         assertThat(totalItems).isEqualTo(segmentPoolInfo.getPoolCount() + 2);
-        verify(mockSegmentPoolService).computeSegmentPool(exam.getId(), segment, assessment.getItemConstraints(),
+        verify(mockSegmentPoolService).computeSegmentPool(examAccommodations, segment, assessment.getItemConstraints(),
             language);
         verify(mockFieldTestService).isFieldTestEligible(exam, assessment, segment.getKey(), language);
         verify(mockFieldTestService).selectItemGroups(exam, assessment, segment.getKey(), language);
@@ -569,4 +592,49 @@ public class ExamSegmentServiceImplTest {
         assertThat(examSegment.getPoolCount()).isEqualTo(segmentPoolInfo.getPoolCount());
         assertThat(examSegment.getItemPool()).containsExactlyInAnyOrder("item-1", "item-2", "item-3", "item-4");
     }
+
+    @Test
+    public void shouldComputeAdaptiveSegmentPoolsConcurrently() throws InterruptedException {
+        Exam exam = new ExamBuilder().build();
+        final String language = "ENU";
+        Segment segment1 = new SegmentBuilder()
+            .withKey("segment1-key")
+            .withSelectionAlgorithm(Algorithm.ADAPTIVE_2)
+            .build();
+        Segment segment2 = new SegmentBuilder()
+            .withKey("segment2-key")
+            .withSelectionAlgorithm(Algorithm.ADAPTIVE_2)
+            .build();
+        Assessment assessment = new AssessmentBuilder()
+            .withSegments(Arrays.asList(segment1, segment2))
+            .build();
+        SegmentPoolInfo segmentPoolInfo = new SegmentPoolInfo(3, 4,
+            new HashSet<>(Arrays.asList(
+                new Item("item-1"),
+                new Item("item-2")
+            )));
+
+        // Each pool computation waits for the other to start, which only happens when they run at the same time
+        CountDownLatch computationsStarted = new CountDownLatch(2);
+        when(mockSegmentPoolService.computeSegmentPool(anyListOf(ExamAccommodation.class), any(Segment.class),
+            anyListOf(ItemConstraint.class), anyString())).thenAnswer(invocation -> {
+            computationsStarted.countDown();
+            assertThat(computationsStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return segmentPoolInfo;
+        });
+
+        ForkJoinPool segmentPoolExecutor = new ForkJoinPool(2);
+        try {
+            ExamSegmentServiceImpl concurrentExamSegmentService = new ExamSegmentServiceImpl(mockExamSegmentCommandRepository,
+                mockSegmentPoolService, mockFormSelector, mockFieldTestService, mockExamAccommodationService,
+                segmentPoolExecutor);
+
+            int totalItems = concurrentExamSegmentService.initializeExamSegments(exam, assessment);
+
+            assertThat(totalItems).isEqualTo(2 * segmentPoolInfo.getPoolCount());
+            verify(mockExamAccommodationService).findAllAccommodations(exam.getId());
+        } finally {
+            segmentPoolExecutor.shutdownNow();
+        }
+    }
 }
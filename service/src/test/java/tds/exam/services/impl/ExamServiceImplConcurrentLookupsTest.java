@@ -0,0 +1,199 @@
+package tds.exam.services.impl;
+
+import org.joda.time.Instant;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.mockito.stubbing.Answer;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import tds.assessment.Assessment;
+import tds.common.Response;
+import tds.exam.Exam;
+import tds.exam.ExamStatusCode;
+import tds.exam.OpenExamRequest;
+import tds.exam.builder.AssessmentBuilder;
+import tds.exam.builder.OpenExamRequestBuilder;
+import tds.exam.builder.SessionBuilder;
+import tds.exam.error.ValidationErrorCode;
+import tds.exam.repositories.ExamCommandRepository;
+import tds.exam.repositories.ExamQueryRepository;
+import tds.exam.repositories.ExamStatusQueryRepository;
+import tds.exam.repositories.HistoryQueryRepository;
+import tds.exam.services.AsyncAssessmentService;
+import tds.exam.services.AsyncConfigService;
+import tds.exam.services.AsyncSessionService;
+import tds.exam.services.AsyncStudentService;
+import tds.exam.services.AsyncTimeLimitConfigurationService;
+import tds.exam.services.ConfigService;
+import tds.exam.services.ExamAccommodationService;
+import tds.exam.services.ExamItemService;
+import tds.exam.services.ExamSegmentService;
+import tds.exam.services.SessionService;
+import tds.exam.services.StudentService;
+import tds.exam.services.TimeLimitConfigurationService;
+import tds.session.ExternalSessionConfiguration;
+import tds.session.Session;
+import tds.student.Student;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static tds.exam.ExamStatusStage.OPEN;
+
+/**
+ * Verifies that opening an exam has its independent lookups against other services in flight at the same time.  The
+ * stubbed external configuration, session, student and assessment lookups only complete once all four of them have
+ * been requested, so the test fails if any of them waits for another.
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ExamServiceImplConcurrentLookupsTest {
+    private static final int CONCURRENT_LOOKUPS = 4;
+    // Only bounds how long a broken test waits; a passing run never gets near it
+    private static final long AWAIT_SECONDS = 10;
+
+    @Mock
+    private ExamQueryRepository mockExamQueryRepository;
+
+    @Mock
+    private ExamCommandRepository mockExamCommandRepository;
+
+    @Mock
+    private HistoryQueryRepository mockHistoryRepository;
+
+    @Mock
+    private SessionService mockSessionService;
+
+    @Mock
+    private StudentService mockStudentService;
+
+    @Mock
+    private AsyncSessionService mockAsyncSessionService;
+
+    @Mock
+    private AsyncStudentService mockAsyncStudentService;
+
+    @Mock
+    private AsyncAssessmentService mockAsyncAssessmentService;
+
+    @Mock
+    private AsyncConfigService mockAsyncConfigService;
+
+    @Mock
+    private AsyncTimeLimitConfigurationService mockAsyncTimeLimitConfigurationService;
+
+    @Mock
+    private TimeLimitConfigurationService mockTimeLimitConfigurationService;
+
+    @Mock
+    private ConfigService mockConfigService;
+
+    @Mock
+    private ExamAccommodationService mockExamAccommodationService;
+
+    @Mock
+    private ExamStatusQueryRepository mockExamStatusQueryRepository;
+
+    @Mock
+    private ExamSegmentService mockExamSegmentService;
+
+    @Mock
+    private ExamItemService mockExamItemService;
+
+    private ExecutorService executorService;
+    private CyclicBarrier allLookupsInFlight;
+    private OpenExamRequest openExamRequest;
+
+    @Before
+    public void setUp() {
+        executorService = Executors.newFixedThreadPool(8);
+        allLookupsInFlight = new CyclicBarrier(CONCURRENT_LOOKUPS);
+        openExamRequest = new OpenExamRequestBuilder().build();
+
+        // The previous exam is still active in another session so the exam cannot be opened.  Reaching that decision
+        // takes every lookup made before an exam is created.
+        Session currentSession = new SessionBuilder().build();
+        Session previousSession = new SessionBuilder().withId(UUID.randomUUID()).build();
+        Exam previousExam = new Exam.Builder()
+            .withId(UUID.randomUUID())
+            .withSessionId(previousSession.getId())
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_APPROVED, OPEN), Instant.now())
+            .build();
+        Assessment assessment = new AssessmentBuilder().build();
+        ExternalSessionConfiguration externalSessionConfiguration =
+            new ExternalSessionConfiguration(openExamRequest.getClientName(), "Development", 0, 0, 0, 0);
+
+        when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName()))
+            .thenAnswer(onceAllLookupsInFlight(Optional.of(externalSessionConfiguration)));
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId()))
+            .thenAnswer(completedOnceAllLookupsInFlight(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId()))
+            .thenAnswer(completedOnceAllLookupsInFlight(Optional.of(new Student(1, "testId", "CA", "clientName"))));
+        when(mockAsyncAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey()))
+            .thenAnswer(completedOnceAllLookupsInFlight(Optional.of(assessment)));
+        when(mockExamQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName()))
+            .thenReturn(Optional.of(previousExam));
+        when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldRequestIndependentLookupsConcurrently() {
+        ExamServiceImpl examService = new ExamServiceImpl(
+            mockExamQueryRepository,
+            mockHistoryRepository,
+            mockSessionService,
+            mockStudentService,
+            mockExamSegmentService,
+            mockTimeLimitConfigurationService,
+            mockConfigService,
+            mockExamCommandRepository,
+            mockExamItemService,
+            mockExamStatusQueryRepository,
+            mockExamAccommodationService,
+            mockAsyncSessionService,
+            mockAsyncStudentService,
+            mockAsyncAssessmentService,
+            mockAsyncConfigService,
+            mockAsyncTimeLimitConfigurationService,
+            executorService);
+
+        Response<Exam> response = examService.openExam(openExamRequest).join();
+
+        assertThat(response.getErrors()[0].getCode()).isEqualTo(ValidationErrorCode.CURRENT_EXAM_OPEN);
+        assertThat(allLookupsInFlight.isBroken()).isFalse();
+    }
+
+    private <T> Answer<T> onceAllLookupsInFlight(T value) {
+        return invocation -> awaitAllLookupsInFlight(value);
+    }
+
+    // The non-blocking clients return straight away and complete their future once the response arrives
+    private <T> Answer<CompletableFuture<T>> completedOnceAllLookupsInFlight(T value) {
+        return invocation -> CompletableFuture.supplyAsync(() -> awaitAllLookupsInFlight(value), executorService);
+    }
+
+    private <T> T awaitAllLookupsInFlight(T value) {
+        try {
+            allLookupsInFlight.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException("Lookups were not in flight at the same time", e);
+        }
+        return value;
+    }
+}
@@ -1,5 +1,6 @@
 package tds.exam.services.impl;
 
+import com.google.common.util.concurrent.MoreExecutors;
 import org.assertj.core.util.Lists;
 import org.joda.time.Days;
 import org.joda.time.Instant;
@@ -22,6 +23,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import tds.assessment.Algorithm;
 import tds.assessment.Assessment;
@@ -52,6 +54,8 @@ import tds.exam.repositories.ExamQueryRepository;
 import tds.exam.repositories.ExamStatusQueryRepository;
 import tds.exam.repositories.HistoryQueryRepository;
 import tds.exam.services.AssessmentService;
+import tds.exam.services.AsyncSessionService;
+import tds.exam.services.AsyncStudentService;
 import tds.exam.services.ConfigService;
 import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ExamItemService;
@@ -70,6 +74,7 @@ import static org.mockito.Matchers.isA;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static tds.exam.services.impl.CompletableFutures.join;
 import static tds.config.ClientSystemFlag.ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE;
 import static tds.config.ClientSystemFlag.RESTORE_ACCOMMODATIONS_TYPE;
 import static tds.exam.ExamStatusCode.STATUS_APPROVED;
@@ -100,6 +105,12 @@ public class ExamServiceImplTest {
     @Mock
     private StudentService mockStudentService;
 
+    @Mock
+    private AsyncSessionService mockAsyncSessionService;
+
+    @Mock
+    private AsyncStudentService mockAsyncStudentService;
+
     @Mock
     private AssessmentService mockAssessmentService;
 
@@ -134,13 +145,18 @@ public class ExamServiceImplTest {
             mockSessionService,
             mockStudentService,
             mockExamSegmentService,
-            mockAssessmentService,
             mockTimeLimitConfigurationService,
             mockConfigService,
             mockExamCommandRepository,
             mockExamItemService,
             mockExamStatusQueryRepository,
-            mockExamAccommodationService);
+            mockExamAccommodationService,
+            mockAsyncSessionService,
+            mockAsyncStudentService,
+            (clientName, assessmentKey) -> CompletableFuture.completedFuture(mockAssessmentService.findAssessment(clientName, assessmentKey)),
+            (clientName, auditObject) -> CompletableFuture.completedFuture(mockConfigService.findClientSystemFlag(clientName, auditObject)),
+            (clientName, assessmentId) -> CompletableFuture.completedFuture(mockTimeLimitConfigurationService.findTimeLimitConfiguration(clientName, assessmentId)),
+            MoreExecutors.directExecutor());
     }
 
     @After
@@ -161,10 +177,10 @@ public class ExamServiceImplTest {
         ExternalSessionConfiguration extSessionConfig = new ExternalSessionConfiguration(openExamRequest.getClientName(), SIMULATION_ENVIRONMENT, 0, 0, 0, 0);
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.empty());
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.of(new Student(1, "testId", "CA", "clientName")));
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(new Student(1, "testId", "CA", "clientName"))));
 
-        examService.openExam(openExamRequest);
+        join(examService.openExam(openExamRequest));
     }
 
     @Test(expected = IllegalArgumentException.class)
@@ -173,10 +189,10 @@ public class ExamServiceImplTest {
         ExternalSessionConfiguration extSessionConfig = new ExternalSessionConfiguration(openExamRequest.getClientName(), SIMULATION_ENVIRONMENT, 0, 0, 0, 0);
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(new SessionBuilder().build()));
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.empty());
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(new SessionBuilder().build())));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
 
-        examService.openExam(openExamRequest);
+        join(examService.openExam(openExamRequest));
     }
 
     @Test
@@ -185,9 +201,9 @@ public class ExamServiceImplTest {
         ExternalSessionConfiguration extSessionConfig = new ExternalSessionConfiguration(openExamRequest.getClientName(), SIMULATION_ENVIRONMENT, 0, 0, 0, 0);
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(new SessionBuilder().withStatus("closed").build()));
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(new SessionBuilder().withStatus("closed").build())));
 
-        Response<Exam> response = examService.openExam(openExamRequest);
+        Response<Exam> response = join(examService.openExam(openExamRequest));
 
         assertThat(response.getData().isPresent()).isFalse();
         assertThat(response.getErrors()[0].getCode()).isEqualTo(ValidationErrorCode.SESSION_NOT_OPEN);
@@ -197,7 +213,7 @@ public class ExamServiceImplTest {
     public void shouldThrowIllegalStateIfExternSessionConfigCannotBeFoundWhileOpeningExam() {
         OpenExamRequest openExamRequest = new OpenExamRequestBuilder().build();
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.empty());
-        examService.openExam(openExamRequest);
+        join(examService.openExam(openExamRequest));
     }
 
     @Test
@@ -222,14 +238,14 @@ public class ExamServiceImplTest {
         Assessment assessment = new AssessmentBuilder().build();
         ExternalSessionConfiguration externalSessionConfiguration = new ExternalSessionConfiguration(openExamRequest.getClientName(), "Development", 0, 0, 0, 0);
 
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(externalSessionConfiguration));
 
-        Response<Exam> examResponse = examService.openExam(openExamRequest);
+        Response<Exam> examResponse = join(examService.openExam(openExamRequest));
 
         assertThat(examResponse.getData().isPresent()).isFalse();
         assertThat(examResponse.getErrors()).hasSize(1);
@@ -266,8 +282,8 @@ public class ExamServiceImplTest {
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockConfigService.findClientSystemFlag(openExamRequest.getClientName(), ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE)).thenReturn(Optional.of(clientSystemFlag));
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.empty());
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
         when(mockAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName())).thenReturn(Optional.empty());
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
@@ -276,7 +292,7 @@ public class ExamServiceImplTest {
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(configuration));
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
 
-        Response<Exam> examResponse = examService.openExam(openExamRequest);
+        Response<Exam> examResponse = join(examService.openExam(openExamRequest));
         assertThat(examResponse.getErrors()).isEmpty();
         verify(mockExamCommandRepository).insert(isA(Exam.class));
 
@@ -331,8 +347,8 @@ public class ExamServiceImplTest {
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockConfigService.findClientSystemFlag(openExamRequest.getClientName(), ALLOW_ANONYMOUS_STUDENT_FLAG_TYPE)).thenReturn(Optional.of(clientSystemFlag));
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.empty());
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
         when(mockAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName())).thenReturn(Optional.empty());
         when(mockConfigService.findAssessmentWindows(openExamRequest.getClientName(), assessment.getAssessmentId(), openExamRequest.getStudentId(), extSessionConfig))
@@ -342,7 +358,7 @@ public class ExamServiceImplTest {
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(configuration));
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_APPROVED)).thenReturn(new ExamStatusCode(STATUS_APPROVED, OPEN));
 
-        Response<Exam> examResponse = examService.openExam(openExamRequest);
+        Response<Exam> examResponse = join(examService.openExam(openExamRequest));
         verify(mockExamCommandRepository).insert(isA(Exam.class));
         assertThat(examResponse.getErrors()).isEmpty();
 
@@ -374,8 +390,8 @@ public class ExamServiceImplTest {
 
         TimeLimitConfiguration configuration = new TimeLimitConfiguration.Builder().withExamDelayDays(0).build();
 
-        when(mockSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(openExamRequest.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(openExamRequest.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(openExamRequest.getStudentId(), assessment.getAssessmentId(), openExamRequest.getClientName())).thenReturn(Optional.empty());
         when(mockSessionService.findExternalSessionConfigurationByClientName(openExamRequest.getClientName())).thenReturn(Optional.of(extSessionConfig));
@@ -386,7 +402,7 @@ public class ExamServiceImplTest {
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(openExamRequest.getClientName(), openExamRequest.getAssessmentKey())).thenReturn(Optional.of(configuration));
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
 
-        Response<Exam> examResponse = examService.openExam(openExamRequest);
+        Response<Exam> examResponse = join(examService.openExam(openExamRequest));
         verify(mockExamCommandRepository).insert(isA(Exam.class));
         verify(mockExamAccommodationService).initializeExamAccommodations(isA(Exam.class));
 
@@ -429,8 +445,8 @@ public class ExamServiceImplTest {
             .withEnabled(true)
             .build();
 
-        when(mockSessionService.findSessionById(request.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(1)).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(request.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(1)).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(request.getClientName(), request.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(request.getStudentId(), assessment.getAssessmentId(), request.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
@@ -440,7 +456,7 @@ public class ExamServiceImplTest {
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
         when(mockConfigService.findClientSystemFlag(request.getClientName(), RESTORE_ACCOMMODATIONS_TYPE)).thenReturn(Optional.of(restoreAccommodations));
 
-        Response<Exam> examResponse = examService.openExam(request);
+        Response<Exam> examResponse = join(examService.openExam(request));
 
         verify(mockExamCommandRepository).update(isA(Exam.class));
         verify(mockExamAccommodationService).initializeAccommodationsOnPreviousExam(isA(Exam.class), isA(Assessment.class), isA(Integer.class), isA(Boolean.class), isA(String.class));
@@ -490,15 +506,15 @@ public class ExamServiceImplTest {
             .build();
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(request.getClientName())).thenReturn(Optional.of(extSessionConfig));
-        when(mockSessionService.findSessionById(request.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(request.getStudentId())).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(request.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(request.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(request.getClientName(), request.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(request.getStudentId(), assessment.getAssessmentId(), request.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
         when(mockConfigService.findClientSystemFlag(request.getClientName(), RESTORE_ACCOMMODATIONS_TYPE)).thenReturn(Optional.of(restoreAccommodations));
 
-        Response<Exam> examResponse = examService.openExam(request);
+        Response<Exam> examResponse = join(examService.openExam(request));
 
         Exam savedExam = examResponse.getData().get();
         assertThat(savedExam.getId()).isEqualTo(previousExam.getId());
@@ -540,8 +556,8 @@ public class ExamServiceImplTest {
             .build();
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(request.getClientName())).thenReturn(Optional.of(externalSessionConfiguration));
-        when(mockSessionService.findSessionById(request.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(request.getStudentId())).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(request.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(request.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(request.getClientName(), request.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(request.getStudentId(), assessment.getAssessmentId(), request.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
@@ -549,7 +565,7 @@ public class ExamServiceImplTest {
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
         when(mockConfigService.findClientSystemFlag(request.getClientName(), RESTORE_ACCOMMODATIONS_TYPE)).thenReturn(Optional.of(restoreAccommodations));
 
-        Response<Exam> examResponse = examService.openExam(request);
+        Response<Exam> examResponse = join(examService.openExam(request));
 
         assertThat(examResponse.getErrors()).isEmpty();
 
@@ -593,8 +609,8 @@ public class ExamServiceImplTest {
             .withEnabled(true)
             .build();
 
-        when(mockSessionService.findSessionById(request.getSessionId())).thenReturn(Optional.of(currentSession));
-        when(mockStudentService.getStudentById(request.getStudentId())).thenReturn(Optional.of(student));
+        when(mockAsyncSessionService.findSessionById(request.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
+        when(mockAsyncStudentService.getStudentById(request.getStudentId())).thenReturn(CompletableFuture.completedFuture(Optional.of(student)));
         when(mockAssessmentService.findAssessment(request.getClientName(), request.getAssessmentKey())).thenReturn(Optional.of(assessment));
         when(mockExamQueryRepository.getLastAvailableExam(request.getStudentId(), assessment.getAssessmentId(), request.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
@@ -602,7 +618,7 @@ public class ExamServiceImplTest {
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_PENDING)).thenReturn(new ExamStatusCode(STATUS_PENDING, OPEN));
         when(mockConfigService.findClientSystemFlag(request.getClientName(), RESTORE_ACCOMMODATIONS_TYPE)).thenReturn(Optional.of(restoreAccommodations));
 
-        Response<Exam> examResponse = examService.openExam(request);
+        Response<Exam> examResponse = join(examService.openExam(request));
 
         assertThat(examResponse.getErrors()).isEmpty();
 
@@ -646,7 +662,7 @@ public class ExamServiceImplTest {
             .build();
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(request.getClientName())).thenReturn(Optional.of(externalSessionConfiguration));
-        when(mockSessionService.findSessionById(request.getSessionId())).thenReturn(Optional.of(currentSession));
+        when(mockAsyncSessionService.findSessionById(request.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(currentSession)));
         when(mockExamQueryRepository.getLastAvailableExam(request.getStudentId(), assessment.getAssessmentId(), request.getClientName())).thenReturn(Optional.of(previousExam));
         when(mockSessionService.findSessionById(previousSession.getId())).thenReturn(Optional.of(previousSession));
         when(mockSessionService.findExternalSessionConfigurationByClientName(request.getClientName())).thenReturn(Optional.of(externalSessionConfiguration));
@@ -655,7 +671,7 @@ public class ExamServiceImplTest {
         when(mockExamStatusQueryRepository.findExamStatusCode(STATUS_SUSPENDED)).thenReturn(new ExamStatusCode(STATUS_SUSPENDED, IN_USE));
         when(mockConfigService.findClientSystemFlag(request.getClientName(), RESTORE_ACCOMMODATIONS_TYPE)).thenReturn(Optional.of(restoreAccommodations));
 
-        Response<Exam> examResponse = examService.openExam(request);
+        Response<Exam> examResponse = join(examService.openExam(request));
 
         Exam savedExam = examResponse.getData().get();
         assertThat(savedExam.getId()).isEqualTo(previousExam.getId());
@@ -1341,7 +1357,7 @@ public class ExamServiceImplTest {
     public void shouldReturnFailureExamConfigForNoExamFound() {
         UUID examID = UUID.randomUUID();
         when(mockExamQueryRepository.getExamById(examID)).thenReturn(Optional.empty());
-        Response<ExamConfiguration> response = examService.startExam(examID);
+        Response<ExamConfiguration> response = join(examService.startExam(examID));
         assertThat(response.getErrors()).hasSize(1);
         ValidationError error = response.getErrors()[0];
         assertThat(error.getCode()).isEqualTo(ExamStatusCode.STATUS_FAILED);
@@ -1353,8 +1369,8 @@ public class ExamServiceImplTest {
         Exam exam = new ExamBuilder()
             .build();
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.empty());
-        Response<ExamConfiguration> response = examService.startExam(exam.getId());
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Response<ExamConfiguration> response = join(examService.startExam(exam.getId()));
         assertThat(response.getErrors()).hasSize(1);
         ValidationError error = response.getErrors()[0];
         assertThat(error.getCode()).isEqualTo(ExamStatusCode.STATUS_FAILED);
@@ -1367,8 +1383,8 @@ public class ExamServiceImplTest {
             .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_APPROVED, ExamStatusStage.OPEN), Instant.now())
             .build();
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.empty());
-        Response<ExamConfiguration> response = examService.startExam(exam.getId());
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.empty()));
+        Response<ExamConfiguration> response = join(examService.startExam(exam.getId()));
         assertThat(response.getErrors()).hasSize(1);
         ValidationError error = response.getErrors()[0];
         assertThat(error.getCode()).isEqualTo(ExamStatusCode.STATUS_FAILED);
@@ -1395,9 +1411,9 @@ public class ExamServiceImplTest {
             .thenReturn(Optional.of(timeLimitConfiguration));
         when(mockSessionService.findExternalSessionConfigurationByClientName(exam.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.of(session));
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(session)));
         when(mockAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey())).thenReturn(Optional.empty());
-        Response<ExamConfiguration> response = examService.startExam(exam.getId());
+        Response<ExamConfiguration> response = join(examService.startExam(exam.getId()));
         assertThat(response.getErrors()).hasSize(1);
         ValidationError error = response.getErrors()[0];
         assertThat(error.getCode()).isEqualTo(ExamStatusCode.STATUS_FAILED);
@@ -1428,15 +1444,15 @@ public class ExamServiceImplTest {
 
         when(mockSessionService.findExternalSessionConfigurationByClientName(exam.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.of(session));
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(session)));
         when(mockAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey()))
             .thenReturn(Optional.of(assessment));
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId()))
             .thenReturn(Optional.of(timeLimitConfiguration));
         when(mockExamSegmentService.initializeExamSegments(exam, assessment)).thenReturn(testLength);
-        Response<ExamConfiguration> examConfigurationResponse = examService.startExam(exam.getId());
+        Response<ExamConfiguration> examConfigurationResponse = join(examService.startExam(exam.getId()));
         verify(mockExamQueryRepository).getExamById(exam.getId());
-        verify(mockSessionService).findSessionById(exam.getSessionId());
+        verify(mockAsyncSessionService).findSessionById(exam.getSessionId());
         verify(mockAssessmentService).findAssessment(exam.getClientName(), exam.getAssessmentKey());
         verify(mockTimeLimitConfigurationService).findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId());
         verify(mockExamCommandRepository).update(examArgumentCaptor.capture());
@@ -1465,6 +1481,43 @@ public class ExamServiceImplTest {
         assertThat(updatedExam.getStatusChangeDate()).isGreaterThan(approvedStatusDate);
     }
 
+    @Test
+    public void shouldRequestStartExamDependenciesOnce() {
+        Session session = new SessionBuilder()
+            .withDateVisited(Instant.now())
+            .build();
+        Assessment assessment = new AssessmentBuilder().build();
+        Exam exam = new ExamBuilder()
+            .withStatus(new ExamStatusCode(ExamStatusCode.STATUS_APPROVED, ExamStatusStage.OPEN), Instant.now().minus(5000))
+            .withSessionId(session.getId())
+            .withAssessmentId(assessment.getAssessmentId())
+            .withDateStarted(null)
+            .build();
+        TimeLimitConfiguration timeLimitConfiguration = new TimeLimitConfiguration.Builder()
+            .withTaCheckinTimeMinutes(20)
+            .withAssessmentId(assessment.getAssessmentId())
+            .build();
+        ExternalSessionConfiguration extSessionConfig = new ExternalSessionConfigurationBuilder()
+            .withEnvironment("Production")
+            .build();
+
+        when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
+        when(mockSessionService.findExternalSessionConfigurationByClientName(exam.getClientName())).thenReturn(Optional.of(extSessionConfig));
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(session)));
+        when(mockAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey())).thenReturn(Optional.of(assessment));
+        when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId()))
+            .thenReturn(Optional.of(timeLimitConfiguration));
+        when(mockExamSegmentService.initializeExamSegments(exam, assessment)).thenReturn(10);
+
+        Response<ExamConfiguration> response = join(examService.startExam(exam.getId()));
+
+        assertThat(response.getData().isPresent()).isTrue();
+        verify(mockSessionService).findExternalSessionConfigurationByClientName(exam.getClientName());
+        verify(mockAsyncSessionService).findSessionById(exam.getSessionId());
+        verify(mockAssessmentService).findAssessment(exam.getClientName(), exam.getAssessmentKey());
+        verify(mockTimeLimitConfigurationService).findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId());
+    }
+
     @Test
     public void shouldRestartExistingExamOutsideGracePeriodPausedExam() throws InterruptedException {
         Session session = new SessionBuilder().build();
@@ -1495,17 +1548,17 @@ public class ExamServiceImplTest {
         when(mockSessionService.findExternalSessionConfigurationByClientName(exam.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
         when(mockExamQueryRepository.findLastStudentActivity(exam.getId())).thenReturn(Optional.of(lastStudentActivityTime));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.of(session));
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(session)));
         when(mockAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey()))
             .thenReturn(Optional.of(assessment));
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId()))
             .thenReturn(Optional.of(timeLimitConfiguration));
         when(mockExamSegmentService.initializeExamSegments(exam, assessment)).thenReturn(testLength);
 
-        Response<ExamConfiguration> examConfigurationResponse = examService.startExam(exam.getId());
+        Response<ExamConfiguration> examConfigurationResponse = join(examService.startExam(exam.getId()));
 
         verify(mockExamQueryRepository).getExamById(exam.getId());
-        verify(mockSessionService).findSessionById(exam.getSessionId());
+        verify(mockAsyncSessionService).findSessionById(exam.getSessionId());
         verify(mockAssessmentService).findAssessment(exam.getClientName(), exam.getAssessmentKey());
         verify(mockTimeLimitConfigurationService).findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId());
         verify(mockExamCommandRepository).update(examArgumentCaptor.capture());
@@ -1569,7 +1622,7 @@ public class ExamServiceImplTest {
         when(mockSessionService.findExternalSessionConfigurationByClientName(exam.getClientName())).thenReturn(Optional.of(extSessionConfig));
         when(mockExamQueryRepository.getExamById(exam.getId())).thenReturn(Optional.of(exam));
         when(mockExamQueryRepository.findLastStudentActivity(exam.getId())).thenReturn(Optional.of(lastStudentActivityTime));
-        when(mockSessionService.findSessionById(exam.getSessionId())).thenReturn(Optional.of(session));
+        when(mockAsyncSessionService.findSessionById(exam.getSessionId())).thenReturn(CompletableFuture.completedFuture(Optional.of(session)));
         when(mockAssessmentService.findAssessment(exam.getClientName(), exam.getAssessmentKey()))
             .thenReturn(Optional.of(assessment));
         when(mockTimeLimitConfigurationService.findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId()))
@@ -1578,10 +1631,10 @@ public class ExamServiceImplTest {
         when(mockExamItemService.getExamPosition(exam.getId())).thenReturn(resumePosition);
         when(mockExamItemService.getExamPosition(exam.getId())).thenReturn(5);
 
-        Response<ExamConfiguration> examConfigurationResponse = examService.startExam(exam.getId());
+        Response<ExamConfiguration> examConfigurationResponse = join(examService.startExam(exam.getId()));
 
         verify(mockExamQueryRepository).getExamById(exam.getId());
-        verify(mockSessionService).findSessionById(exam.getSessionId());
+        verify(mockAsyncSessionService).findSessionById(exam.getSessionId());
         verify(mockAssessmentService).findAssessment(exam.getClientName(), exam.getAssessmentKey());
         verify(mockTimeLimitConfigurationService).findTimeLimitConfiguration(exam.getClientName(), assessment.getAssessmentId());
         verify(mockExamCommandRepository).update(examArgumentCaptor.capture());
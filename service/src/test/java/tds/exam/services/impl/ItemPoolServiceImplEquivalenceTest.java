@@ -0,0 +1,180 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import tds.assessment.Item;
+import tds.assessment.ItemConstraint;
+import tds.assessment.ItemProperty;
+import tds.exam.ExamAccommodation;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.services.ExamAccommodationService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the item pools selected through the {@link tds.exam.models.ItemPropertyIndex} with the pools selected by
+ * the original scan over every item property, for randomly generated segments of 500 to 5,000 items.
+ */
+public class ItemPoolServiceImplEquivalenceTest {
+    private static final String[] LANGUAGES = {"ENU", "ESN", "ENU-Braille"};
+    private static final String[] ITEM_TYPES = {"ER", "MI", "MC", "EQ", "GI"};
+    private static final int[] SEGMENT_SIZES = {500, 1000, 2500, 5000};
+
+    private final Random random = new Random(20170105L);
+    private ExamAccommodationService mockExamAccommodationService;
+    private ItemPoolServiceImpl itemPoolService;
+
+    @Before
+    public void setUp() {
+        mockExamAccommodationService = mock(ExamAccommodationService.class);
+        itemPoolService = new ItemPoolServiceImpl(mockExamAccommodationService, new ItemPropertyIndexCache(new ExamServiceProperties()));
+    }
+
+    @Test
+    public void shouldSelectSameItemPoolAsPropertyScan() {
+        for (int segmentSize : SEGMENT_SIZES) {
+            List<Item> items = createItems(segmentSize);
+
+            for (int run = 0; run < 20; run++) {
+                UUID examId = UUID.randomUUID();
+                List<ItemConstraint> itemConstraints = createItemConstraints();
+                List<ExamAccommodation> accommodations = createAccommodations(examId);
+                when(mockExamAccommodationService.findAllAccommodations(examId)).thenReturn(accommodations);
+
+                for (Boolean isFieldTest : new Boolean[]{null, true, false}) {
+                    assertThat(itemPoolService.getItemPool(examId, itemConstraints, items, isFieldTest))
+                        .isEqualTo(scanItemPool(accommodations, itemConstraints, items, isFieldTest));
+                }
+            }
+        }
+    }
+
+    private List<Item> createItems(int count) {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String itemId = "item-" + i;
+            List<ItemProperty> itemProperties = new ArrayList<>();
+            for (String language : LANGUAGES) {
+                if (random.nextInt(3) > 0) {
+                    itemProperties.add(new ItemProperty("Language", language, language, itemId));
+                }
+            }
+            itemProperties.add(new ItemProperty("--ITEMTYPE--", randomOf(ITEM_TYPES), "Item Type", itemId));
+            if (random.nextInt(10) == 0) {
+                itemProperties.add(new ItemProperty("TestAccommodation", "TEST", "Test", itemId));
+            }
+
+            Item item = new Item(itemId);
+            item.setItemProperties(itemProperties);
+            item.setFieldTest(random.nextInt(5) == 0);
+            items.add(item);
+        }
+
+        return items;
+    }
+
+    private List<ItemConstraint> createItemConstraints() {
+        List<ItemConstraint> itemConstraints = new ArrayList<>();
+        for (String language : LANGUAGES) {
+            itemConstraints.add(createItemConstraint("Language", language, true));
+        }
+        itemConstraints.add(createItemConstraint("--ITEMTYPE--", randomOf(ITEM_TYPES), random.nextBoolean()));
+        itemConstraints.add(createItemConstraint("TestAccommodation", "TEST", false));
+        return itemConstraints;
+    }
+
+    private static ItemConstraint createItemConstraint(String propertyName, String propertyValue, boolean isInclusive) {
+        return new ItemConstraint.Builder()
+            .withAssessmentId("my-assessment-id")
+            .withToolType(propertyName)
+            .withToolValue(propertyValue)
+            .withPropertyName(propertyName)
+            .withPropertyValue(propertyValue)
+            .withInclusive(isInclusive)
+            .build();
+    }
+
+    private List<ExamAccommodation> createAccommodations(UUID examId) {
+        List<ExamAccommodation> accommodations = new ArrayList<>();
+        accommodations.add(createAccommodation(examId, "Language", randomOf(LANGUAGES)));
+        accommodations.add(createAccommodation(examId, "--ITEMTYPE--", randomOf(ITEM_TYPES)));
+        if (random.nextBoolean()) {
+            accommodations.add(createAccommodation(examId, "TestAccommodation", "TEST"));
+        }
+        accommodations.add(createAccommodation(examId, "type1", "TDS_T1"));
+        return accommodations;
+    }
+
+    private static ExamAccommodation createAccommodation(UUID examId, String type, String code) {
+        return new ExamAccommodation.Builder()
+            .withExamId(examId)
+            .withType(type)
+            .withCode(code)
+            .withDescription(code)
+            .withSegmentKey("my-segment-key")
+            .build();
+    }
+
+    private String randomOf(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /*
+        The item pool selection as it was before the item property index
+     */
+    private static Set<Item> scanItemPool(List<ExamAccommodation> allAccommodations, List<ItemConstraint> itemConstraints,
+                                          List<Item> items, Boolean isFieldTest) {
+        List<ItemProperty> allItemProperties = items.stream()
+            .flatMap(item -> item.getItemProperties().stream())
+            .collect(Collectors.toList());
+
+        Set<ExamAccommodation> includedAccommodations = allAccommodations.stream()
+            .flatMap(accommodation -> itemConstraints.stream()
+                .filter(itemConstraint -> itemConstraint.isInclusive() &&
+                    itemConstraint.getPropertyName().equals(accommodation.getType()) &&
+                    itemConstraint.getPropertyValue().equals(accommodation.getCode()))
+                .map(itemConstraint -> accommodation))
+            .collect(Collectors.toSet());
+
+        Set<String> itemPoolIds = allItemProperties.stream()
+            .flatMap(itemProperty -> includedAccommodations.stream()
+                .filter(accommodation ->
+                    itemProperty.getName().equals(accommodation.getType()) &&
+                        itemProperty.getValue().equals(accommodation.getCode()))
+                .map(accommodation -> itemProperty.getItemId()))
+            .collect(Collectors.toSet());
+
+        Set<ExamAccommodation> excludedAccommodations = allAccommodations.stream()
+            .flatMap(accommodation -> itemConstraints.stream()
+                .filter(itemConstraint -> !itemConstraint.isInclusive() &&
+                    itemConstraint.getPropertyName().equals(accommodation.getType()) &&
+                    itemConstraint.getPropertyValue().equals(accommodation.getCode()))
+                .map(itemConstraint -> accommodation))
+            .collect(Collectors.toSet());
+
+        Set<String> excludedItemIds = allItemProperties.stream()
+            .flatMap(itemProperty -> excludedAccommodations.stream()
+                .filter(accommodation ->
+                    itemProperty.getName().equals(accommodation.getType()) &&
+                        itemProperty.getValue().equals(accommodation.getCode()))
+                .map(accommodation -> itemProperty.getItemId()))
+            .collect(Collectors.toSet());
+
+        return items.stream()
+            .filter(item ->
+                (isFieldTest == null || item.isFieldTest() == isFieldTest) &&
+                    itemPoolIds.contains(item.getId()) &&
+                    !excludedItemIds.contains(item.getId()))
+            .collect(Collectors.toSet());
+    }
+}
@@ -5,30 +5,38 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import tds.assessment.Algorithm;
 import tds.assessment.Item;
 import tds.assessment.ItemConstraint;
 import tds.assessment.ItemProperty;
+import tds.assessment.Segment;
 import tds.exam.ExamAccommodation;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ItemPoolService;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ItemPoolServiceImplTest {
     private ExamAccommodationService mockExamAccommodationService;
+    private ItemPropertyIndexCache itemPropertyIndexCache;
     private ItemPoolService itemPoolService;
 
     @Before
     public void setUp() {
         mockExamAccommodationService = mock(ExamAccommodationService.class);
-        itemPoolService = new ItemPoolServiceImpl(mockExamAccommodationService);
+        itemPropertyIndexCache = new ItemPropertyIndexCache(new ExamServiceProperties());
+        itemPoolService = new ItemPoolServiceImpl(mockExamAccommodationService, itemPropertyIndexCache);
     }
 
     @Test
@@ -447,5 +455,69 @@ public class ItemPoolServiceImplTest {
         verify(mockExamAccommodationService).findAllAccommodations(examId);
         assertThat(retItemIds).isEmpty();
     }
-}
 
+    @Test
+    public void shouldFindItemPoolForSegmentUsingCachedIndex() {
+        final UUID examId = UUID.randomUUID();
+        final String segmentKey = "my-segment-key";
+        final String assessmentId = "my-assessment-id";
+
+        Item item1 = new Item("item-1");
+        item1.setItemProperties(Arrays.asList(
+            new ItemProperty("Language", "ENU", "English", "item-1"),
+            new ItemProperty("--ITEMTYPE--", "ER", "Extended Response", "item-1")));
+        Item item2 = new Item("item-2");
+        item2.setItemProperties(Arrays.asList(
+            new ItemProperty("Language", "ENU", "English", "item-2"),
+            new ItemProperty("TestAccommodation", "TEST", "Should be excluded", "item-2")));
+        Item item3 = new Item("item-3");
+        item3.setItemProperties(Collections.singletonList(new ItemProperty("Language", "ESN", "Spanish", "item-3")));
+
+        Segment segment = new Segment(segmentKey, Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("my-assessment-key");
+        segment.setItems(Arrays.asList(item1, item2, item3));
+
+        List<ItemConstraint> itemConstraints = Arrays.asList(
+            new ItemConstraint.Builder()
+                .withAssessmentId(assessmentId)
+                .withToolType("Language")
+                .withToolValue("ENU")
+                .withPropertyName("Language")
+                .withPropertyValue("ENU")
+                .withInclusive(true)
+                .build(),
+            new ItemConstraint.Builder()
+                .withAssessmentId(assessmentId)
+                .withToolType("TestAccommodation")
+                .withToolValue("TEST")
+                .withPropertyName("TestAccommodation")
+                .withPropertyValue("TEST")
+                .withInclusive(false)
+                .build());
+
+        List<ExamAccommodation> examAccommodations = Arrays.asList(
+            new ExamAccommodation.Builder()
+                .withExamId(examId)
+                .withType("Language")
+                .withCode("ENU")
+                .withDescription("English")
+                .withSegmentKey(segmentKey)
+                .build(),
+            new ExamAccommodation.Builder()
+                .withExamId(examId)
+                .withType("TestAccommodation")
+                .withCode("TEST")
+                .withDescription("type 1 desc")
+                .withSegmentKey(segmentKey)
+                .build());
+
+        when(mockExamAccommodationService.findAllAccommodations(examId)).thenReturn(examAccommodations);
+        Set<Item> firstItemPool = itemPoolService.getItemPool(examId, itemConstraints, segment, "ENU");
+        Set<Item> secondItemPool = itemPoolService.getItemPool(examId, itemConstraints, segment, "ENU");
+
+        verify(mockExamAccommodationService, times(2)).findAllAccommodations(examId);
+        assertThat(firstItemPool).containsOnly(item1);
+        assertThat(secondItemPool).isEqualTo(firstItemPool);
+        assertThat(itemPropertyIndexCache.getCacheStatistics().getHitCount()).isEqualTo(1);
+    }
+}
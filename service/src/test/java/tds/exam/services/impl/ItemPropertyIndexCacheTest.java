@@ -0,0 +1,139 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import tds.assessment.Algorithm;
+import tds.assessment.Item;
+import tds.assessment.ItemProperty;
+import tds.assessment.Segment;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.ItemPropertyIndex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ItemPropertyIndexCacheTest {
+    // Only bounds how long a broken test waits; a passing run never gets near it
+    private static final long AWAIT_SECONDS = 10;
+
+    private ItemPropertyIndexCache itemPropertyIndexCache;
+
+    @Before
+    public void setUp() {
+        itemPropertyIndexCache = new ItemPropertyIndexCache(new ExamServiceProperties());
+    }
+
+    @Test
+    public void shouldIndexItemIdsByPropertyNameAndValue() {
+        ItemPropertyIndex index = itemPropertyIndexCache.get(createSegment(), "ENU");
+
+        assertThat(index.getItems()).hasSize(1);
+        assertThat(index.findItemIds("Language", "ENU")).containsExactly("item-1");
+        assertThat(index.findItemIds("--ITEMTYPE--", "ER")).containsExactly("item-1");
+        assertThat(index.findItemIds("Language", "ESN")).isEmpty();
+    }
+
+    @Test
+    public void shouldReuseIndexForSameSegment() {
+        Segment segment = createSegment();
+
+        ItemPropertyIndex index = itemPropertyIndexCache.get(segment, "ENU");
+
+        assertThat(itemPropertyIndexCache.get(segment, "ENU")).isSameAs(index);
+        assertThat(itemPropertyIndexCache.getCacheStatistics().getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldRebuildIndexWhenAssessmentWasLoadedAgain() {
+        ItemPropertyIndex index = itemPropertyIndexCache.get(createSegment(), "ENU");
+
+        assertThat(itemPropertyIndexCache.get(createSegment(), "ENU")).isNotSameAs(index);
+        assertThat(itemPropertyIndexCache.getCacheStatistics().getHitCount()).isEqualTo(0);
+        assertThat(itemPropertyIndexCache.getCacheStatistics().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldBuildIndexOnceForConcurrentLookups() throws Exception {
+        AtomicInteger reads = new AtomicInteger();
+        CountDownLatch building = new CountDownLatch(1);
+        CountDownLatch finishBuilding = new CountDownLatch(1);
+        Segment segment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2) {
+            @Override
+            public List<Item> getItems(String languageCode) {
+                if (reads.incrementAndGet() == 1) {
+                    building.countDown();
+                    awaitUninterruptibly(finishBuilding);
+                }
+                return super.getItems(languageCode);
+            }
+        };
+        segment.setItems(createSegment().getItems());
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+            Future<ItemPropertyIndex> first = executorService.submit(() -> itemPropertyIndexCache.get(segment, "ENU"));
+            assertThat(building.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+            // Waits for the first build instead of building the index itself
+            Thread second = new Thread(() -> itemPropertyIndexCache.get(segment, "ENU"));
+            second.start();
+            awaitBlockedOrFinished(second);
+            finishBuilding.countDown();
+            second.join(TimeUnit.SECONDS.toMillis(AWAIT_SECONDS));
+
+            assertThat(first.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+            assertThat(reads.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldRebuildIndexAfterEviction() {
+        Segment segment = createSegment();
+        ItemPropertyIndex index = itemPropertyIndexCache.get(segment, "ENU");
+
+        itemPropertyIndexCache.evictAll();
+
+        assertThat(itemPropertyIndexCache.get(segment, "ENU")).isNotSameAs(index);
+        assertThat(itemPropertyIndexCache.getCacheName()).isEqualTo("item-property-indexes");
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitBlockedOrFinished(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TERMINATED
+            && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static Segment createSegment() {
+        Item item = new Item("item-1");
+        item.setItemProperties(Arrays.asList(
+            new ItemProperty("Language", "ENU", "English", "item-1"),
+            new ItemProperty("--ITEMTYPE--", "ER", "Extended Response", "item-1")));
+
+        Segment segment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("my-assessment-key");
+        segment.setItems(Collections.singletonList(item));
+        return segment;
+    }
+}
@@ -0,0 +1,122 @@
+package tds.exam.services.impl;
+
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import tds.assessment.Algorithm;
+import tds.assessment.Segment;
+import tds.exam.caching.CacheStatistics;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.SegmentPoolInfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentPoolCacheTest {
+    // Only bounds how long a broken test waits; a passing run never gets near it
+    private static final long AWAIT_SECONDS = 10;
+    private static final Set<Pair<String, String>> ENGLISH = Collections.singleton(Pair.of("Language", "ENU"));
+
+    private SegmentPoolCache segmentPoolCache;
+    private ExecutorService executorService;
+
+    @Before
+    public void setUp() {
+        segmentPoolCache = new SegmentPoolCache(new ExamServiceProperties());
+        executorService = Executors.newSingleThreadExecutor();
+    }
+
+    @After
+    public void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void shouldCountPoolOfReloadedSegmentAsMiss() {
+        SegmentPoolInfo segmentPoolInfo = segmentPoolCache.get(createSegment(), "ENU", ENGLISH, this::createSegmentPoolInfo);
+
+        assertThat(segmentPoolCache.get(createSegment(), "ENU", ENGLISH, this::createSegmentPoolInfo)).isNotSameAs(segmentPoolInfo);
+
+        CacheStatistics statistics = segmentPoolCache.getCacheStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(0);
+        assertThat(statistics.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldCountPoolOfSameSegmentAsHit() {
+        Segment segment = createSegment();
+        SegmentPoolInfo segmentPoolInfo = segmentPoolCache.get(segment, "ENU", ENGLISH, this::createSegmentPoolInfo);
+
+        assertThat(segmentPoolCache.get(segment, "ENU", ENGLISH, this::createSegmentPoolInfo)).isSameAs(segmentPoolInfo);
+
+        CacheStatistics statistics = segmentPoolCache.getCacheStatistics();
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldComputePoolOnceForConcurrentLookups() throws Exception {
+        Segment segment = createSegment();
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch finishComputing = new CountDownLatch(1);
+
+        Future<SegmentPoolInfo> first = executorService.submit(() -> segmentPoolCache.get(segment, "ENU", ENGLISH, () -> {
+            computations.incrementAndGet();
+            computing.countDown();
+            awaitUninterruptibly(finishComputing);
+            return createSegmentPoolInfo();
+        }));
+        assertThat(computing.await(AWAIT_SECONDS, TimeUnit.SECONDS)).isTrue();
+
+        // Waits for the first computation instead of computing the pool itself
+        Thread second = new Thread(() -> segmentPoolCache.get(segment, "ENU", ENGLISH, () -> {
+            computations.incrementAndGet();
+            return createSegmentPoolInfo();
+        }));
+        second.start();
+        awaitBlockedOrFinished(second);
+        finishComputing.countDown();
+        second.join(TimeUnit.SECONDS.toMillis(AWAIT_SECONDS));
+
+        assertThat(first.get(AWAIT_SECONDS, TimeUnit.SECONDS)).isNotNull();
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    private SegmentPoolInfo createSegmentPoolInfo() {
+        return new SegmentPoolInfo(0, 0, new HashSet<>());
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        try {
+            latch.await(AWAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void awaitBlockedOrFinished(final Thread thread) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(AWAIT_SECONDS);
+        while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TERMINATED
+            && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    private static Segment createSegment() {
+        Segment segment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("my-assessment-key");
+        return segment;
+    }
+}
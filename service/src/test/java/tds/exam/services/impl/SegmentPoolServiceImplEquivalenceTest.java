@@ -0,0 +1,152 @@
+package tds.exam.services.impl;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import tds.assessment.Algorithm;
+import tds.assessment.Item;
+import tds.assessment.ItemConstraint;
+import tds.assessment.Segment;
+import tds.assessment.Strand;
+import tds.exam.ExamAccommodation;
+import tds.exam.configuration.ExamServiceProperties;
+import tds.exam.models.SegmentPoolInfo;
+import tds.exam.services.ExamAccommodationService;
+import tds.exam.services.ItemPoolService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Compares the segment pool lengths and counts computed with the single counting pass against the original per item
+ * strand search, for randomly generated adaptive segments of up to 10,000 items and 60 strands.
+ */
+public class SegmentPoolServiceImplEquivalenceTest {
+    private final Random random = new Random(20170106L);
+    private ItemPoolService mockItemPoolService;
+    private SegmentPoolServiceImpl segmentPoolService;
+
+    @Before
+    public void setUp() {
+        mockItemPoolService = mock(ItemPoolService.class);
+        segmentPoolService = new SegmentPoolServiceImpl(mockItemPoolService, mock(ExamAccommodationService.class),
+            new SegmentPoolCache(new ExamServiceProperties()));
+    }
+
+    @Test
+    public void shouldComputeSameSegmentPoolAsStrandSearch() {
+        for (int run = 0; run < 200; run++) {
+            int strandTotal = 1 + random.nextInt(60);
+            int itemTotal = run % 10 == 0 ? 10000 : random.nextInt(2000);
+            Segment segment = createSegment(run, strandTotal);
+            List<ExamAccommodation> examAccommodations = new ArrayList<>();
+            List<ItemConstraint> itemConstraints = new ArrayList<>();
+            Set<Item> itemPool = createItemPool(strandTotal, itemTotal);
+            when(mockItemPoolService.getItemPool(examAccommodations, itemConstraints, segment, "ENU")).thenReturn(itemPool);
+
+            SegmentPoolInfo segmentPoolInfo = segmentPoolService.computeSegmentPool(examAccommodations, segment, itemConstraints, "ENU");
+
+            int[] expected = searchStrands(segment, itemPool);
+            assertThat(segmentPoolInfo.getLength()).isEqualTo(expected[0]);
+            assertThat(segmentPoolInfo.getPoolCount()).isEqualTo(expected[1]);
+        }
+    }
+
+    private Segment createSegment(int run, int strandTotal) {
+        Segment segment = new Segment("segment-" + run, Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("assessment-" + run);
+        segment.setMaxItems(random.nextInt(80));
+
+        Set<Strand> strands = new HashSet<>();
+        for (int i = 0; i < strandTotal; i++) {
+            strands.add(new Strand.Builder()
+                .withName("strand-" + i)
+                .withMinItems(random.nextInt(30))
+                .withMaxItems(30)
+                .withSegmentKey(segment.getKey())
+                // Strands without an adaptive cut are never matched
+                .withAdaptiveCut(random.nextInt(4) == 0 ? null : random.nextFloat())
+                .build());
+        }
+        segment.setStrands(strands);
+
+        return segment;
+    }
+
+    private Set<Item> createItemPool(int strandTotal, int itemTotal) {
+        Set<Item> itemPool = new HashSet<>();
+        for (int i = 0; i < itemTotal; i++) {
+            Item item = new Item("item-" + i);
+            // Some items name a strand the segment does not have
+            item.setStrand(random.nextInt(50) == 0 ? "unknown-strand" : "strand-" + random.nextInt(strandTotal));
+            item.setFieldTest(random.nextInt(8) == 0);
+            itemPool.add(item);
+        }
+
+        return itemPool;
+    }
+
+    /*
+        The length and pool count as computed before the single counting pass
+     */
+    private static int[] searchStrands(Segment segment, Set<Item> itemPool) {
+        Set<Strand> strands = segment.getStrands();
+        int shortfall = 0;
+        int strandCount = 0;
+        Map<String, Integer> strandCountMap = new HashMap<>();
+
+        for (Item item : itemPool) {
+            Optional<Strand> maybeItemStrand = strands.stream()
+                .filter(strand ->
+                    strand.getName().equals(item.getStrand()) &&
+                        strand.getAdaptiveCut() != null)
+                .findFirst();
+
+            if (maybeItemStrand.isPresent()) {
+                Strand itemStrand = maybeItemStrand.get();
+                int poolCount;
+
+                if (strandCountMap.containsKey(itemStrand.getName())) {
+                    poolCount = strandCountMap.get(itemStrand.getName());
+                } else {
+                    poolCount = (int) itemPool.stream()
+                        .filter(innerItem ->
+                            !innerItem.isFieldTest() &&
+                                innerItem.getStrand().equals(itemStrand.getName()))
+                        .count();
+                    strandCountMap.put(itemStrand.getName(), poolCount);
+                }
+
+                strandCount += poolCount;
+
+                if (poolCount < itemStrand.getMinItems()) {
+                    shortfall += (itemStrand.getMinItems() - poolCount);
+                }
+            }
+        }
+
+        int lengthDelta = segment.getMaxItems() - shortfall;
+        int newLength;
+        if (lengthDelta < strandCount) {
+            if (lengthDelta > 0) {
+                newLength = lengthDelta;
+            } else {
+                newLength = segment.getMaxItems();
+            }
+        } else {
+            newLength = strandCount;
+        }
+
+        return new int[]{newLength, strandCount};
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.Before;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -17,21 +19,32 @@ import tds.assessment.ItemProperty;
 import tds.assessment.Segment;
 import tds.assessment.Strand;
 import tds.exam.ExamAccommodation;
+import tds.exam.configuration.ExamServiceProperties;
 import tds.exam.models.SegmentPoolInfo;
+import tds.exam.services.ExamAccommodationService;
 import tds.exam.services.ItemPoolService;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyListOf;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class SegmentPoolServiceImplTest {
     private SegmentPoolServiceImpl segmentPoolService;
     private ItemPoolService mockItemPoolService;
+    private ExamAccommodationService mockExamAccommodationService;
+    private SegmentPoolCache segmentPoolCache;
 
     @Before
     public void setUp() {
         mockItemPoolService = mock(ItemPoolService.class);
-        segmentPoolService = new SegmentPoolServiceImpl(mockItemPoolService);
+        mockExamAccommodationService = mock(ExamAccommodationService.class);
+        segmentPoolCache = new SegmentPoolCache(new ExamServiceProperties());
+        segmentPoolService = new SegmentPoolServiceImpl(mockItemPoolService, mockExamAccommodationService, segmentPoolCache);
     }
 
     @Test
@@ -180,7 +193,8 @@ public class SegmentPoolServiceImplTest {
                 .withSegmentKey(segmentKey)
                 .build());
 
-        when(mockItemPoolService.getItemPool(examId, itemConstraints, segment.getItems("ENU"))).thenReturn(new HashSet<>(items));
+        when(mockExamAccommodationService.findAllAccommodations(examId)).thenReturn(examAccommodations);
+        when(mockItemPoolService.getItemPool(examAccommodations, itemConstraints, segment, "ENU")).thenReturn(new HashSet<>(items));
         SegmentPoolInfo segmentPoolInfo = segmentPoolService.computeSegmentPool(examId, segment, itemConstraints, "ENU");
         assertThat(segmentPoolInfo).isNotNull();
         assertThat(segmentPoolInfo.getPoolCount()).isEqualTo(6);
@@ -336,7 +350,8 @@ public class SegmentPoolServiceImplTest {
             .withSegmentKey(segmentKey)
             .build());
 
-        when(mockItemPoolService.getItemPool(examId, itemConstraints, segment.getItems("ENU"))).thenReturn(new HashSet<>(items));
+        when(mockExamAccommodationService.findAllAccommodations(examId)).thenReturn(examAccommodations);
+        when(mockItemPoolService.getItemPool(examAccommodations, itemConstraints, segment, "ENU")).thenReturn(new HashSet<>(items));
         SegmentPoolInfo segmentPoolInfo = segmentPoolService.computeSegmentPool(examId, segment, itemConstraints, "ENU");
         assertThat(segmentPoolInfo).isNotNull();
         assertThat(segmentPoolInfo.getPoolCount()).isEqualTo(6);
@@ -345,4 +360,78 @@ public class SegmentPoolServiceImplTest {
         List<String> itemIds = segmentPoolInfo.getItemPool().stream().map(Item::getId).collect(Collectors.toList());
         assertThat(itemIds).contains(itemId1, itemId2, excludedStrandItemId, ftItemId);
     }
+
+    @Test
+    public void shouldShareSegmentPoolBetweenExamsWithSameConstrainedAccommodations() {
+        Segment segment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("my-assessment-key");
+        segment.setMaxItems(5);
+        segment.setStrands(new HashSet<>());
+
+        List<ItemConstraint> itemConstraints = Collections.singletonList(new ItemConstraint.Builder()
+            .withAssessmentId("my-assessment-id")
+            .withToolType("Language")
+            .withToolValue("ENU")
+            .withPropertyName("Language")
+            .withPropertyValue("ENU")
+            .withInclusive(true)
+            .build());
+        ExamAccommodation english = new ExamAccommodation.Builder()
+            .withExamId(UUID.randomUUID())
+            .withType("Language")
+            .withCode("ENU")
+            .withSegmentKey("my-segment-key")
+            .build();
+        ExamAccommodation spanish = new ExamAccommodation.Builder()
+            .withExamId(UUID.randomUUID())
+            .withType("Language")
+            .withCode("ESN")
+            .withSegmentKey("my-segment-key")
+            .build();
+        // Does not match any item constraint so it does not change the pool
+        ExamAccommodation colorChoice = new ExamAccommodation.Builder()
+            .withExamId(UUID.randomUUID())
+            .withType("Color Choices")
+            .withCode("TDS_CCYellowB")
+            .withSegmentKey("my-segment-key")
+            .build();
+
+        List<ExamAccommodation> englishOnly = Collections.singletonList(english);
+        List<ExamAccommodation> englishWithColorChoice = Arrays.asList(colorChoice, english);
+        List<ExamAccommodation> spanishOnly = Collections.singletonList(spanish);
+        when(mockItemPoolService.getItemPool(anyListOf(ExamAccommodation.class), eq(itemConstraints), eq(segment), eq("ENU")))
+            .thenReturn(new HashSet<>());
+
+        SegmentPoolInfo englishPool = segmentPoolService.computeSegmentPool(englishOnly, segment, itemConstraints, "ENU");
+        SegmentPoolInfo englishWithColorChoicePool = segmentPoolService.computeSegmentPool(englishWithColorChoice, segment, itemConstraints, "ENU");
+        SegmentPoolInfo spanishPool = segmentPoolService.computeSegmentPool(spanishOnly, segment, itemConstraints, "ENU");
+
+        assertThat(englishWithColorChoicePool).isSameAs(englishPool);
+        assertThat(spanishPool).isNotSameAs(englishPool);
+        verify(mockItemPoolService).getItemPool(englishOnly, itemConstraints, segment, "ENU");
+        verify(mockItemPoolService, never()).getItemPool(englishWithColorChoice, itemConstraints, segment, "ENU");
+        verify(mockItemPoolService).getItemPool(spanishOnly, itemConstraints, segment, "ENU");
+        assertThat(segmentPoolCache.getCacheStatistics().getHitCount()).isEqualTo(1);
+        assertThat(segmentPoolCache.getCacheStatistics().getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldComputeSegmentPoolAgainWhenAssessmentWasLoadedAgain() {
+        List<ItemConstraint> itemConstraints = new ArrayList<>();
+        List<ExamAccommodation> examAccommodations = new ArrayList<>();
+        Segment segment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2);
+        segment.setAssessmentKey("my-assessment-key");
+        segment.setStrands(new HashSet<>());
+        Segment reloadedSegment = new Segment("my-segment-key", Algorithm.ADAPTIVE_2);
+        reloadedSegment.setAssessmentKey("my-assessment-key");
+        reloadedSegment.setStrands(new HashSet<>());
+        when(mockItemPoolService.getItemPool(eq(examAccommodations), eq(itemConstraints), any(Segment.class), eq("ENU")))
+            .thenReturn(new HashSet<>());
+
+        SegmentPoolInfo segmentPoolInfo = segmentPoolService.computeSegmentPool(examAccommodations, segment, itemConstraints, "ENU");
+
+        assertThat(segmentPoolService.computeSegmentPool(examAccommodations, reloadedSegment, itemConstraints, "ENU"))
+            .isNotSameAs(segmentPoolInfo);
+        verify(mockItemPoolService).getItemPool(examAccommodations, itemConstraints, reloadedSegment, "ENU");
+    }
 }
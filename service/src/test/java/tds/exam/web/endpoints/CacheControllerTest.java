@@ -0,0 +1,83 @@
+package tds.exam.web.endpoints;
+
+import com.google.common.cache.CacheStats;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collections;
+import java.util.List;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.CacheStatisticsProvider;
+import tds.exam.caching.EvictableCache;
+import tds.exam.repositories.ExamStatusQueryRepository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class CacheControllerTest {
+    private CacheController controller;
+
+    @Mock
+    private ExamStatusQueryRepository mockExamStatusQueryRepository;
+
+    @Mock
+    private CacheStatisticsProvider mockCacheStatisticsProvider;
+
+    @Mock
+    private EvictableCache mockEvictableCache;
+
+    @Before
+    public void setUp() {
+        controller = new CacheController(mockExamStatusQueryRepository,
+            Collections.singletonList(mockCacheStatisticsProvider),
+            Collections.singletonList(mockEvictableCache));
+    }
+
+    @Test
+    public void shouldReloadExamStatusCodes() {
+        ResponseEntity<Void> response = controller.reloadExamStatusCodes();
+
+        verify(mockExamStatusQueryRepository).reloadExamStatusCodes();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    public void shouldReturnCacheStatistics() {
+        CacheStatistics statistics = new CacheStatistics("exams", 3, new CacheStats(5, 2, 2, 0, 10, 1));
+        when(mockCacheStatisticsProvider.getCacheStatistics()).thenReturn(statistics);
+
+        ResponseEntity<List<CacheStatistics>> response = controller.getCacheStatistics();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsExactly(statistics);
+    }
+
+    @Test
+    public void shouldEvictNamedCache() {
+        when(mockEvictableCache.getCacheName()).thenReturn("external-session-configurations");
+
+        ResponseEntity<Void> response = controller.evictCache("external-session-configurations");
+
+        verify(mockEvictableCache).evictAll();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+    }
+
+    @Test
+    public void shouldReturnNotFoundForUnknownCache() {
+        when(mockEvictableCache.getCacheName()).thenReturn("external-session-configurations");
+
+        ResponseEntity<Void> response = controller.evictCache("unknown");
+
+        verify(mockEvictableCache, never()).evictAll();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
@@ -0,0 +1,60 @@
+package tds.exam.web.endpoints;
+
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+
+import tds.exam.http.ConnectionPoolStatistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ConnectionPoolControllerTest {
+    private ConnectionPoolController controller;
+
+    @Mock
+    private PoolingHttpClientConnectionManager mockConnectionManager;
+
+    @Mock
+    private PoolingNHttpClientConnectionManager mockAsyncConnectionManager;
+
+    @Before
+    public void setUp() {
+        controller = new ConnectionPoolController(mockConnectionManager, mockAsyncConnectionManager);
+    }
+
+    @Test
+    public void shouldReturnConnectionPoolStatistics() {
+        when(mockConnectionManager.getTotalStats()).thenReturn(new PoolStats(12, 3, 20, 200));
+        when(mockAsyncConnectionManager.getTotalStats()).thenReturn(new PoolStats(4, 0, 6, 200));
+
+        ResponseEntity<List<ConnectionPoolStatistics>> response = controller.getConnectionPoolStatistics();
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).hasSize(2);
+
+        ConnectionPoolStatistics statistics = response.getBody().get(0);
+        assertThat(statistics.getName()).isEqualTo("blocking");
+        assertThat(statistics.getLeased()).isEqualTo(12);
+        assertThat(statistics.getPending()).isEqualTo(3);
+        assertThat(statistics.getAvailable()).isEqualTo(20);
+        assertThat(statistics.getMax()).isEqualTo(200);
+
+        ConnectionPoolStatistics asyncStatistics = response.getBody().get(1);
+        assertThat(asyncStatistics.getName()).isEqualTo("async");
+        assertThat(asyncStatistics.getLeased()).isEqualTo(4);
+        assertThat(asyncStatistics.getPending()).isEqualTo(0);
+        assertThat(asyncStatistics.getAvailable()).isEqualTo(6);
+        assertThat(asyncStatistics.getMax()).isEqualTo(200);
+    }
+}
@@ -12,12 +12,14 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import javax.servlet.http.HttpServletRequest;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import tds.common.Response;
 import tds.common.ValidationError;
@@ -83,9 +85,9 @@ public class ExamControllerTest {
     @Test
     public void shouldCreateErrorResponseWhenOpenExamFailsWithValidationError() {
         OpenExamRequest openExamRequest = new OpenExamRequestBuilder().build();
-        when(mockExamService.openExam(openExamRequest)).thenReturn(new Response<Exam>(new ValidationError(ValidationErrorCode.PREVIOUS_SESSION_NOT_FOUND, "Session not found")));
+        when(mockExamService.openExam(openExamRequest)).thenReturn(CompletableFuture.completedFuture(new Response<Exam>(new ValidationError(ValidationErrorCode.PREVIOUS_SESSION_NOT_FOUND, "Session not found"))));
 
-        ResponseEntity<Response<Exam>> response = controller.openExam(openExamRequest);
+        ResponseEntity<Response<Exam>> response = result(controller.openExam(openExamRequest));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
         assertThat(response.getBody().getErrors()).hasSize(1);
@@ -97,9 +99,9 @@ public class ExamControllerTest {
         OpenExamRequest openExamRequest = new OpenExamRequestBuilder().build();
 
         UUID examId = UUID.randomUUID();
-        when(mockExamService.openExam(openExamRequest)).thenReturn(new Response<>(new Exam.Builder().withId(examId).build()));
+        when(mockExamService.openExam(openExamRequest)).thenReturn(CompletableFuture.completedFuture(new Response<>(new Exam.Builder().withId(examId).build())));
 
-        ResponseEntity<Response<Exam>> response = controller.openExam(openExamRequest);
+        ResponseEntity<Response<Exam>> response = result(controller.openExam(openExamRequest));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getHeaders().getLocation()).isEqualTo(new URI("http://localhost/exam/" + examId));
@@ -137,9 +139,9 @@ public class ExamControllerTest {
             .withStatus("started")
             .build();
         when(mockExamService.startExam(exam.getId())).thenReturn(
-            new Response<>(mockExamConfig));
+            CompletableFuture.completedFuture(new Response<>(mockExamConfig)));
 
-        ResponseEntity<Response<ExamConfiguration>> response = controller.startExam(exam.getId());
+        ResponseEntity<Response<ExamConfiguration>> response = result(controller.startExam(exam.getId()));
         verify(mockExamService).startExam(exam.getId());
 
         assertThat(response.getBody().getData().get().getExam().getId()).isEqualTo(exam.getId());
@@ -152,9 +154,9 @@ public class ExamControllerTest {
     public void shouldCreateErrorResponseWhenStartExamValidationError() {
         final UUID examId = UUID.randomUUID();
         when(mockExamService.startExam(examId)).thenReturn(
-            new Response<ExamConfiguration>(new ValidationError(ValidationErrorCode.EXAM_APPROVAL_SESSION_ID_MISMATCH, "Session mismatch")));
+            CompletableFuture.completedFuture(new Response<ExamConfiguration>(new ValidationError(ValidationErrorCode.EXAM_APPROVAL_SESSION_ID_MISMATCH, "Session mismatch"))));
 
-        ResponseEntity<Response<ExamConfiguration>> response = controller.startExam(examId);
+        ResponseEntity<Response<ExamConfiguration>> response = result(controller.startExam(examId));
 
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
         assertThat(response.getBody().getErrors()).hasSize(1);
@@ -230,4 +232,21 @@ public class ExamControllerTest {
 
         verify(mockExamService).pauseAllExamsInSession(sessionId);
     }
+
+    @Test
+    public void shouldPassFailureOfOpenExamToExceptionHandlers() {
+        OpenExamRequest openExamRequest = new OpenExamRequestBuilder().build();
+        CompletableFuture<Response<Exam>> failedOpen = new CompletableFuture<>();
+        failedOpen.completeExceptionally(new IllegalStateException("Session service unavailable"));
+        when(mockExamService.openExam(openExamRequest)).thenReturn(failedOpen.thenApply(exam -> exam));
+
+        DeferredResult<ResponseEntity<Response<Exam>>> deferredResult = controller.openExam(openExamRequest);
+
+        assertThat(deferredResult.getResult()).isInstanceOf(IllegalStateException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ResponseEntity<T> result(final DeferredResult<ResponseEntity<T>> deferredResult) {
+        return (ResponseEntity<T>) deferredResult.getResult();
+    }
 }
@@ -0,0 +1,104 @@
+package tds.exam.web.filters;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.lang.reflect.Method;
+
+import tds.exam.caching.CacheStatistics;
+import tds.exam.caching.RequestLookupMemo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RequestLookupMemoFilterTest {
+    private RequestLookupMemoFilter filter;
+    private Method method;
+
+    @Before
+    public void setUp() throws Exception {
+        filter = new RequestLookupMemoFilter();
+        method = Object.class.getMethod("toString");
+    }
+
+    @Test
+    public void shouldReportNoLookupsBeforeAnyRequest() {
+        CacheStatistics statistics = filter.getCacheStatistics();
+
+        assertThat(statistics.getName()).isEqualTo(RequestLookupMemoFilter.CACHE_NAME);
+        assertThat(statistics.getHitCount()).isEqualTo(0);
+        assertThat(statistics.getMissCount()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldTotalLookupsMadeAndSavedAcrossRequests() throws Exception {
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), lookingUp("a", "a", "b"));
+        filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), lookingUp("a", "a"));
+
+        CacheStatistics statistics = filter.getCacheStatistics();
+        assertThat(statistics.getMissCount()).isEqualTo(3);
+        assertThat(statistics.getLoadCount()).isEqualTo(3);
+        assertThat(statistics.getHitCount()).isEqualTo(2);
+        assertThat(statistics.getSize()).isEqualTo(0);
+    }
+
+    @Test
+    public void shouldCountLookupsOfRequestThatFails() throws Exception {
+        FilterChain failingChain = (request, response) -> {
+            lookingUp("a", "a").doFilter(request, response);
+            throw new ServletException("failed");
+        };
+
+        try {
+            filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), failingChain);
+        } catch (ServletException e) {
+            // expected, the lookups made before the failure are still counted
+        }
+
+        CacheStatistics statistics = filter.getCacheStatistics();
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void shouldCountLookupsOfAsynchronousRequestOnceItCompletes() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain startingAsync = (servletRequest, servletResponse) -> {
+            StandardServletAsyncWebRequest asyncWebRequest = new StandardServletAsyncWebRequest(request, response);
+            WebAsyncUtils.getAsyncManager(servletRequest).setAsyncWebRequest(asyncWebRequest);
+            asyncWebRequest.startAsync();
+        };
+
+        filter.doFilter(request, response, startingAsync);
+        lookingUp("a", "a").doFilter(request, response);
+
+        assertThat(filter.getCacheStatistics().getMissCount()).isEqualTo(0);
+
+        ((MockAsyncContext) request.getAsyncContext()).complete();
+
+        CacheStatistics statistics = filter.getCacheStatistics();
+        assertThat(statistics.getMissCount()).isEqualTo(1);
+        assertThat(statistics.getHitCount()).isEqualTo(1);
+    }
+
+    private FilterChain lookingUp(final String... arguments) {
+        return (request, response) -> {
+            RequestLookupMemo memo = (RequestLookupMemo) request.getAttribute(RequestLookupMemo.ATTRIBUTE_NAME);
+            for (String argument : arguments) {
+                try {
+                    memo.lookup(method, new Object[]{argument}, () -> argument);
+                } catch (Throwable t) {
+                    throw new ServletException(t);
+                }
+            }
+        };
+    }
+}